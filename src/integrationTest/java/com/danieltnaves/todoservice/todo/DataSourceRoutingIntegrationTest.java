@@ -0,0 +1,148 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.datasource.replica.enabled=true",
+        "todo.datasource.replica.url=" + DataSourceRoutingIntegrationTest.REPLICA_URL,
+        "todo.datasource.replica.username=sa",
+        "todo.datasource.replica.password=password",
+        "todo.datasource.read-your-writes.window=PT1M",
+        "todo.past-due.sweeper.enabled=false",
+        "todo.stats.reconciler.enabled=false"
+})
+public class DataSourceRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_ITEM = "Replicated item";
+
+    private static final String PRIMARY_ITEM = "Item not replicated yet";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(HttpClients.custom().disableCookieManagement().build()));
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        DataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "password");
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.update("DELETE FROM TODO");
+        replica.update("DELETE FROM TODO");
+    }
+
+    @Test
+    void testReadFromTheReplica() {
+        replica.update("INSERT INTO TODO (ID, DESCRIPTION, STATUS, CREATED_AT, VERSION) VALUES (1000, ?, 0, CURRENT_TIMESTAMP, 0)", REPLICA_ITEM);
+        assertThat(getDescriptions(getItems(new HttpHeaders())), contains(REPLICA_ITEM));
+        assertThat(meterRegistry.get("todo.datasource.connections").tag("route", "replica").counter().count(), is(greaterThan(0.0)));
+    }
+
+    @Test
+    void testReadPagesAfterTheCursorFromTheReplica() {
+        replica.update("INSERT INTO TODO (ID, DESCRIPTION, STATUS, CREATED_AT, VERSION) VALUES (1000, ?, 0, CURRENT_TIMESTAMP, 0)", REPLICA_ITEM);
+        primary.update("INSERT INTO TODO (ID, DESCRIPTION, STATUS, CREATED_AT, VERSION) VALUES (1000, ?, 0, CURRENT_TIMESTAMP, 0)", PRIMARY_ITEM);
+        assertThat(getDescriptions(getItems("?size=10", new HttpHeaders())), contains(REPLICA_ITEM));
+        assertThat(getDescriptions(getItems("?onlyNotDone=true&size=10", new HttpHeaders())), contains(REPLICA_ITEM));
+    }
+
+    @Test
+    void testWriteToThePrimary() {
+        ResponseEntity<TodoDTO> response = addItem();
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM TODO", Long.class), is(1L));
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM TODO", Long.class), is(0L));
+        assertThat(getItems(new HttpHeaders()), is(empty()));
+    }
+
+    @Test
+    void testReadYourWritesFromThePrimary() {
+        ResponseEntity<TodoDTO> response = addItem();
+        String primaryUntilCookie = response.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertThat(primaryUntilCookie, is(notNullValue()));
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, primaryUntilCookie.split(";")[0]);
+        assertThat(getDescriptions(getItems(headers)), contains(PRIMARY_ITEM));
+    }
+
+    @Test
+    void testLoadCachedItemsFromThePrimary() {
+        replica.update("INSERT INTO TODO (ID, DESCRIPTION, STATUS, CREATED_AT, VERSION) VALUES (2000, ?, 0, CURRENT_TIMESTAMP, 0)", REPLICA_ITEM);
+        primary.update("INSERT INTO TODO (ID, DESCRIPTION, STATUS, CREATED_AT, VERSION) VALUES (2000, ?, 0, CURRENT_TIMESTAMP, 1)", PRIMARY_ITEM);
+        ResponseEntity<TodoDTO> response = restTemplate.getForEntity(getTodoEndpoint() + "/2000", TodoDTO.class);
+        assertThat(Objects.requireNonNull(response.getBody()).description(), is(PRIMARY_ITEM));
+    }
+
+    @Test
+    void testExposeConnectionMetricsForEachPool() {
+        addItem();
+        getItems(new HttpHeaders());
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", "todo-primary").gauge(), is(notNullValue()));
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", "todo-replica").gauge(), is(notNullValue()));
+    }
+
+    private ResponseEntity<TodoDTO> addItem() {
+        return restTemplate.postForEntity(getTodoEndpoint(), TodoDTO.builder().description(PRIMARY_ITEM).build(), TodoDTO.class);
+    }
+
+    private List<TodoDTO> getItems(HttpHeaders headers) {
+        return getItems("?page=0&size=10", headers);
+    }
+
+    private List<TodoDTO> getItems(String query, HttpHeaders headers) {
+        ResponseEntity<TodoDTO[]> response = restTemplate.exchange(getTodoEndpoint() + query, HttpMethod.GET, new HttpEntity<>(headers), TodoDTO[].class);
+        return Arrays.asList(Objects.requireNonNull(response.getBody()));
+    }
+
+    private static List<String> getDescriptions(List<TodoDTO> todos) {
+        return todos.stream().map(TodoDTO::description).toList();
+    }
+
+    private String getTodoEndpoint() {
+        return "http://localhost:" + port + "/todo-service/todo";
+    }
+
+}
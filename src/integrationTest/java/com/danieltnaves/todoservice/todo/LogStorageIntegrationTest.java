@@ -0,0 +1,82 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.outbox.TodoOutbox;
+import com.danieltnaves.todoservice.todo.storage.LogTodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.storage.backend=log",
+        "todo.outbox.enabled=false",
+        "todo.cache.maximum-size=0",
+        "spring.datasource.url=jdbc:unavailable:todo"
+})
+public class LogStorageIntegrationTest {
+
+    private static final Path LOG_DIRECTORY = createLogDirectory();
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @DynamicPropertySource
+    static void logStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("todo.storage.log.directory", LOG_DIRECTORY::toString);
+    }
+
+    @Test
+    void testTodoItemsAreStoredOnTheLog() {
+        assertThat(todoRepository, instanceOf(LogTodoRepository.class));
+        long storedItems = todoRepository.count();
+        TodoDTO todo = todoService.addTodoItem(TodoDTO.builder().description("Stored on the log").dueAt(LocalDateTime.now().plusDays(1)).build());
+        List<TodoDTO> batch = todoService.addTodoItems(List.of(TodoDTO.builder().description("First batch item").build(),
+                TodoDTO.builder().description("Second batch item").build()));
+        TodoDTO updatedTodo = todoService.updateTodoItem(todo.id(), todo.version(), TodoDTO.builder().status(TodoDTO.Status.DONE).build());
+        assertThat(updatedTodo.status(), is(TodoDTO.Status.DONE));
+        assertThat(todoService.getTodoById(todo.id()).version(), is(1L));
+        assertThat(todoRepository.count(), is(storedItems + 3));
+        assertThat(todoService.getTodosByFilter(true, 0, 10).stream().map(TodoDTO::id).toList(), contains(batch.get(0).id(), batch.get(1).id()));
+    }
+
+    @Test
+    void testBootWithoutARelationalDatabase() {
+        assertThat(applicationContext.getBeanNamesForType(DataSource.class), is(emptyArray()));
+        assertThat(applicationContext.getBeanNamesForType(EntityManagerFactory.class), is(emptyArray()));
+        assertThat(applicationContext.getBeanNamesForType(Flyway.class), is(emptyArray()));
+        assertThat(applicationContext.getBeanNamesForType(TodoOutbox.class), is(emptyArray()));
+    }
+
+    private static Path createLogDirectory() {
+        try {
+            return Files.createTempDirectory("todo-log");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.http.HttpStatus.OK;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	@Test
+	void testPrometheusMetrics() {
+		TodoDTO todo = restTemplate.postForEntity(getEndpoint("/todo"), TodoDTO.builder().description("New Todo Item").build(), TodoDTO.class).getBody();
+		restTemplate.getForEntity(getEndpoint("/todo/" + todo.id()), TodoDTO.class);
+		ResponseEntity<String> response = restTemplate.getForEntity(getEndpoint("/actuator/prometheus"), String.class);
+		assertThat(response.getStatusCode(), is(OK));
+		assertThat(response.getBody(), containsString("todo_service_seconds_bucket{exception=\"none\",method=\"addTodoItem\""));
+		assertThat(response.getBody(), containsString("spring_data_repository_invocations_seconds_bucket"));
+		assertThat(response.getBody(), containsString("cache_gets_total{cache=\"todo\""));
+	}
+
+	private String getEndpoint(String path) {
+		return "http://localhost:" + port + "/todo-service" + path;
+	}
+
+}
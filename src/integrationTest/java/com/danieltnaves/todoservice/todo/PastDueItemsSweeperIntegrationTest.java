@@ -0,0 +1,49 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.sweeper.PastDueItemsSweeper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PastDueItemsSweeperIntegrationTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private PastDueItemsSweeper pastDueItemsSweeper;
+
+    @Test
+    void testSweepPastDueItems() {
+        List<Todo> expiredTodos = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> getNotDoneTodo(LocalDateTime.now().minusDays(i)))
+                .toList();
+        todoRepository.saveAll(expiredTodos);
+        Todo futureTodo = todoRepository.save(getNotDoneTodo(LocalDateTime.now().plusDays(1)));
+        pastDueItemsSweeper.sweep();
+        expiredTodos.forEach(todo -> assertThat(getStatus(todo), is(Todo.Status.PAST_DUE)));
+        assertThat(getStatus(futureTodo), is(Todo.Status.NOT_DONE));
+    }
+
+    private Todo.Status getStatus(Todo todo) {
+        return todoRepository.findById(todo.getId()).orElseThrow(RuntimeException::new).getStatus();
+    }
+
+    private static Todo getNotDoneTodo(LocalDateTime dueAt) {
+        return Todo.builder()
+                .description("This item will be checked by the past due items sweeper")
+                .status(Todo.Status.NOT_DONE)
+                .createdAt(LocalDateTime.now())
+                .dueAt(dueAt)
+                .build();
+    }
+
+}
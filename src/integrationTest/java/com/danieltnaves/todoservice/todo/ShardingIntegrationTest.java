@@ -0,0 +1,144 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
+import com.danieltnaves.todoservice.todo.api.TodoCursorPage;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
+import com.danieltnaves.todoservice.todo.sharding.TodoShardIds;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@SpringBootTest(properties = {
+        "todo.sharding.enabled=true",
+        "todo.sharding.urls=" + ShardingIntegrationTest.SHARD_URLS,
+        "todo.sharding.username=sa",
+        "todo.sharding.password=password",
+        "todo.batch.max-size=" + ShardingIntegrationTest.MAX_BATCH_SIZE,
+        "todo.past-due.sweeper.enabled=false",
+        "todo.stats.reconciler.enabled=false"
+})
+public class ShardingIntegrationTest {
+
+    static final String SHARD_URLS = "jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1";
+
+    static final int MAX_BATCH_SIZE = 5;
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private TodoService todoService;
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (String url : SHARD_URLS.split(",")) {
+            JdbcTemplate shard = new JdbcTemplate(new DriverManagerDataSource(url, "sa", "password"));
+            shard.update("DELETE FROM TODO");
+            shards.add(shard);
+        }
+    }
+
+    @Test
+    void testStoreNewItemsOnTheShardEncodedOnTheirIds() {
+        List<TodoDTO> todos = addItems(SHARDS * 2);
+        todos.forEach(todo -> assertThat(countItem(TodoShardIds.shardOf(todo.id()), todo.id()), is(1L)));
+        assertThat(shards.stream().map(shard -> shard.queryForObject("SELECT COUNT(*) FROM TODO", Long.class)).toList(), everyItem(is(2L)));
+    }
+
+    @Test
+    void testReadAndUpdateItemsOnTheirShard() {
+        addItems(SHARDS).forEach(todo -> {
+            assertThat(todoService.getTodoById(todo.id()).description(), is(todo.description()));
+            todoService.updateTodoItem(todo.id(), TodoDTO.builder().description("Changed " + todo.id()).build());
+            assertThat(shards.get(TodoShardIds.shardOf(todo.id())).queryForObject("SELECT DESCRIPTION FROM TODO WHERE ID = ?", String.class, todo.id()),
+                    is("Changed " + todo.id()));
+        });
+    }
+
+    @Test
+    void testMergePagesOfAllShardsInIdOrder() {
+        List<Long> ids = addItems(7).stream().map(TodoDTO::id).sorted().toList();
+        List<Long> pagedIds = IntStream.range(0, 3)
+                .mapToObj(page -> todoService.getTodosByFilter(false, page, 3))
+                .flatMap(List::stream)
+                .map(TodoDTO::id)
+                .toList();
+        assertThat(pagedIds, is(ids));
+    }
+
+    @Test
+    void testMergeCursorPagesOfAllShardsInIdOrder() {
+        List<Long> ids = addItems(7).stream().map(TodoDTO::id).sorted().toList();
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            TodoCursorPage page = todoService.getTodosByCursor(false, cursor, 3);
+            page.todos().forEach(todo -> pagedIds.add(todo.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(pagedIds, is(ids));
+    }
+
+    @Test
+    void testUpdateBatchesSpanningShards() {
+        List<TodoDTO> todos = addItems(SHARDS);
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(todos.stream()
+                .map(todo -> new TodoBatchUpdateDTO(todo.id(), TodoDTO.builder().description("Batch " + todo.id()).build()))
+                .toList());
+        assertThat(results.stream().map(TodoBatchUpdateResultDTO::httpStatus).toList(), everyItem(is(HttpStatus.OK)));
+        assertThat(results.stream().map(result -> result.todo().id()).toList(), is(todos.stream().map(TodoDTO::id).toList()));
+        assertThat(todos.stream().map(TodoDTO::id).map(TodoShardIds::shardOf).distinct().count(), is(greaterThan(1L)));
+    }
+
+    @Test
+    void testValidateBatchesSpanningShardsAsAWhole() {
+        List<TodoBatchUpdateDTO> changes = addItems(MAX_BATCH_SIZE + 1).stream()
+                .map(todo -> new TodoBatchUpdateDTO(todo.id(), TodoDTO.builder().description("Batch " + todo.id()).build()))
+                .toList();
+        assertThrows(InvalidInputException.class, () -> todoService.updateTodoItems(changes));
+    }
+
+    @Test
+    void testReportChangesWithoutIdAtTheirPositionOnBatchesSpanningShards() {
+        List<TodoDTO> todos = addItems(SHARDS);
+        List<TodoBatchUpdateDTO> changes = new ArrayList<>();
+        changes.add(new TodoBatchUpdateDTO(todos.get(0).id(), TodoDTO.builder().description("Batch").build()));
+        changes.add(null);
+        changes.add(new TodoBatchUpdateDTO(todos.get(1).id(), TodoDTO.builder().description("Batch").build()));
+        changes.add(new TodoBatchUpdateDTO(null, TodoDTO.builder().description("Batch").build()));
+        changes.add(new TodoBatchUpdateDTO(todos.get(2).id(), TodoDTO.builder().description("Batch").build()));
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(changes);
+        assertThat(results.stream().map(TodoBatchUpdateResultDTO::httpStatus).toList(),
+                contains(HttpStatus.OK, HttpStatus.BAD_REQUEST, HttpStatus.OK, HttpStatus.BAD_REQUEST, HttpStatus.OK));
+        assertThat(results.get(1).message(), is(String.format(TodoService.BATCH_ID_NOT_PROVIDED_MESSAGE, 1)));
+        assertThat(results.get(3).message(), is(String.format(TodoService.BATCH_ID_NOT_PROVIDED_MESSAGE, 3)));
+    }
+
+    private List<TodoDTO> addItems(int items) {
+        return IntStream.range(0, items)
+                .mapToObj(i -> todoService.addTodoItem(TodoDTO.builder().description("Sharded item " + i).build()))
+                .toList();
+    }
+
+    private long countItem(int shard, Long id) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM TODO WHERE ID = ?", Long.class, id);
+    }
+
+}
@@ -1,18 +1,29 @@
 package com.danieltnaves.todoservice.todo;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.http.HttpMethod.PATCH;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoImportSummaryDTO;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +33,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -59,6 +71,25 @@ class TodoApiIntegrationTest {
 		assertThat(response.getBody().createdAt(), lessThan(LocalDateTime.now()));
 	}
 
+	@Test
+	void testAddItems() {
+		ResponseEntity<TodoDTO[]> response = restTemplate.postForEntity(getTodoEndpoint() + "/batch", List.of(getNewTodoItem(), getNewTodoItem(), getNewTodoItem()), TodoDTO[].class);
+		assertThat(response.getStatusCode(), is(CREATED));
+		assertThat(Arrays.asList(Objects.requireNonNull(response.getBody())), hasSize(3));
+		Arrays.stream(response.getBody()).forEach(todo -> {
+			assertThat(todo.id(), is(notNullValue()));
+			assertThat(todo.status(), is(TodoDTO.Status.NOT_DONE));
+		});
+		assertThat(todoRepository.count(), is(3L));
+	}
+
+	@Test
+	void testAddItemsWithoutDescription() {
+		assertThrows(HttpClientErrorException.BadRequest.class, () ->
+				restTemplate.postForEntity(getTodoEndpoint() + "/batch", List.of(getNewTodoItem(), getTodoItemWithNullDescription()), TodoDTO[].class));
+		assertThat(todoRepository.count(), is(0L));
+	}
+
 	@Test
 	void testChangeDescription() {
 		TodoDTO todo = createNewTodoItem(getNewTodoItem()).getBody();
@@ -69,6 +100,25 @@ class TodoApiIntegrationTest {
 	}
 
 
+	@Test
+	void testChangeItems() {
+		TodoDTO todo = Objects.requireNonNull(createNewTodoItem(getNewTodoItem()).getBody());
+		TodoDTO doneTodo = Objects.requireNonNull(updateTodoItem(Objects.requireNonNull(createNewTodoItem(getNewTodoItem()).getBody()), getTodoItemMarkedAsDone()).getBody());
+		List<TodoBatchUpdateDTO> changes = List.of(
+				new TodoBatchUpdateDTO(todo.id(), getTodoItemWithNewDescription()),
+				new TodoBatchUpdateDTO(doneTodo.id(), getTodoItemWithNewDescription()),
+				new TodoBatchUpdateDTO(Long.MAX_VALUE, getTodoItemWithNewDescription()));
+		ResponseEntity<TodoBatchUpdateResultDTO[]> response = restTemplate.exchange(getTodoEndpoint() + "/batch", PATCH, new HttpEntity<>(changes, getHttpHeaders()), TodoBatchUpdateResultDTO[].class);
+		TodoBatchUpdateResultDTO[] results = Objects.requireNonNull(response.getBody());
+		assertThat(response.getStatusCode(), is(OK));
+		assertThat(results[0].httpStatus(), is(OK));
+		assertThat(results[0].todo().description(), is(NEW_TODO_ITEM_DESCRIPTION));
+		assertThat(results[1].httpStatus(), is(BAD_REQUEST));
+		assertThat(results[2].httpStatus(), is(NOT_FOUND));
+		assertThat(retrieveTodoItem(todo).getBody().description(), is(NEW_TODO_ITEM_DESCRIPTION));
+		assertThat(retrieveTodoItem(doneTodo).getBody().description(), is(NEW_TODO_ITEM));
+	}
+
 	@Test
 	void testMarkAnItemAsDone() {
 		ResponseEntity<TodoDTO> response = updateTodoItem(Objects.requireNonNull(createNewTodoItem(getNewTodoItem()).getBody()), getTodoItemMarkedAsDone());
@@ -86,6 +136,34 @@ class TodoApiIntegrationTest {
 		assertThat(Arrays.stream(allTodoItems.getBody()).toList(), hasSize(5));
 	}
 
+	@Test
+	void testGetAllItemsWithCursor() {
+		IntStream.rangeClosed(1, 5).forEach(i -> createNewTodoItem(getNewTodoItem()));
+		List<TodoDTO> retrievedItems = new ArrayList<>();
+		ResponseEntity<TodoDTO[]> todoItems = getItemsWithCursor(null, 2);
+		retrievedItems.addAll(Arrays.asList(Objects.requireNonNull(todoItems.getBody())));
+		while (todoItems.getHeaders().containsKey(TodoController.NEXT_CURSOR_HEADER)) {
+			todoItems = getItemsWithCursor(todoItems.getHeaders().getFirst(TodoController.NEXT_CURSOR_HEADER), 2);
+			assertThat(todoItems.getStatusCode(), is(OK));
+			retrievedItems.addAll(Arrays.asList(Objects.requireNonNull(todoItems.getBody())));
+		}
+		assertThat(retrievedItems, hasSize(5));
+		assertThat(todoItems.getHeaders().getFirst(TodoController.NEXT_CURSOR_HEADER), is(nullValue()));
+	}
+
+	@Test
+	void testGetItemsWithInvalidCursor() {
+		assertThrows(HttpClientErrorException.BadRequest.class, () -> getItemsWithCursor("invalid-cursor", 2));
+	}
+
+	@Test
+	void testGetItemsWithPageAndCursor() {
+		IntStream.rangeClosed(1, 3).forEach(i -> createNewTodoItem(getNewTodoItem()));
+		String cursor = getItemsWithCursor(null, 2).getHeaders().getFirst(TodoController.NEXT_CURSOR_HEADER);
+		assertThrows(HttpClientErrorException.BadRequest.class,
+				() -> restTemplate.getForEntity(String.format("%s?page=0&size=2&after=%s", getTodoEndpoint(), cursor), TodoDTO[].class));
+	}
+
 	@Test
 	void testGetPastDueItems() {
 		IntStream.rangeClosed(1, 5).forEach(i -> createNewTodoItem(getNewTodoItem()));
@@ -106,6 +184,36 @@ class TodoApiIntegrationTest {
 		assertThat(retrievedTodoItem.createdAt(), lessThan(LocalDateTime.now()));
 	}
 
+	@Test
+	void testExportItems() {
+		List<TodoDTO> todos = IntStream.range(0, 3).mapToObj(i -> createNewTodoItem(getNewTodoItem()).getBody()).toList();
+		updateTodoItem(Objects.requireNonNull(todos.get(1)), getTodoItemMarkedAsDone());
+		ResponseEntity<String> allItemsResponse = restTemplate.getForEntity(getTodoEndpoint() + "/export", String.class);
+		assertThat(allItemsResponse.getStatusCode(), is(OK));
+		assertThat(Objects.requireNonNull(allItemsResponse.getHeaders().getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON), is(true));
+		assertThat(Objects.requireNonNull(allItemsResponse.getBody()).lines().toList(), hasSize(3));
+		ResponseEntity<String> doneItemsResponse = restTemplate.getForEntity(getTodoEndpoint() + "/export?status=DONE", String.class);
+		List<String> doneItems = Objects.requireNonNull(doneItemsResponse.getBody()).lines().toList();
+		assertThat(doneItems, hasSize(1));
+		assertThat(doneItems.get(0), containsString(String.format("\"id\":%d", todos.get(1).id())));
+	}
+
+	@Test
+	void testImportItems() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_NDJSON);
+		String body = """
+				{"description": "New Todo Item"}
+				{"status": "DONE"}
+				{"description": "New Todo Item description"}
+				""";
+		ResponseEntity<TodoImportSummaryDTO> response = restTemplate.postForEntity(getTodoEndpoint() + "/import", new HttpEntity<>(body, headers), TodoImportSummaryDTO.class);
+		assertThat(response.getStatusCode(), is(OK));
+		assertThat(Objects.requireNonNull(response.getBody()).importedItems(), is(2L));
+		assertThat(response.getBody().rejectedLines(), is(List.of(2L)));
+		assertThat(todoRepository.count(), is(2L));
+	}
+
 	@Test
 	void testAutomaticallyChangeOfStatusOfPastDueItems() {
 		ResponseEntity<TodoDTO> newTodoItemResponse = createNewTodoItem(getNewTodoItem());
@@ -136,6 +244,28 @@ class TodoApiIntegrationTest {
 		assertThrows(HttpClientErrorException.BadRequest.class, () -> createNewTodoItem(getTodoItemWithNullDescription()));
 	}
 
+	@Test
+	void testUpdateItemWithIfMatch() {
+		ResponseEntity<TodoDTO> retrievedTodoItemResponse = retrieveTodoItem(createNewTodoItem(getNewTodoItem()).getBody());
+		String eTag = retrievedTodoItemResponse.getHeaders().getETag();
+		assertThat(eTag, is(notNullValue()));
+		ResponseEntity<TodoDTO> updatedTodoItemResponse = updateTodoItem(Objects.requireNonNull(retrievedTodoItemResponse.getBody()), getNewTodoItemWithPatchedDescription(), eTag);
+		assertThat(updatedTodoItemResponse.getStatusCode(), is(OK));
+		assertThat(updatedTodoItemResponse.getHeaders().getETag(), is(not(eTag)));
+		assertThat(retrieveTodoItem(retrievedTodoItemResponse.getBody()).getHeaders().getETag(), is(updatedTodoItemResponse.getHeaders().getETag()));
+		HttpClientErrorException exception = assertThrows(HttpClientErrorException.class, () ->
+				updateTodoItem(retrievedTodoItemResponse.getBody(), getTodoItemMarkedAsDone(), eTag));
+		assertThat(exception.getStatusCode(), is(PRECONDITION_FAILED));
+		assertThat(Objects.requireNonNull(retrieveTodoItem(retrievedTodoItemResponse.getBody()).getBody()).status(), is(TodoDTO.Status.NOT_DONE));
+	}
+
+	@Test
+	void testUpdateItemWithInvalidIfMatch() {
+		TodoDTO todo = createNewTodoItem(getNewTodoItem()).getBody();
+		assertThrows(HttpClientErrorException.BadRequest.class, () ->
+				updateTodoItem(Objects.requireNonNull(todo), getNewTodoItemWithPatchedDescription(), "not-an-etag"));
+	}
+
 	@Test
 	void testUpdateDoneItem() {
 		TodoDTO todo = createNewTodoItem(getNewTodoItem()).getBody();
@@ -192,6 +322,11 @@ class TodoApiIntegrationTest {
 		return restTemplate.getForEntity(String.format("%s?onlyNotDone=%b&page=%d&size=%d", getTodoEndpoint(), onlyNotDone, page, size), TodoDTO[].class);
 	}
 
+	private ResponseEntity<TodoDTO[]> getItemsWithCursor(String after, int size) {
+		String cursorParam = after == null ? "" : String.format("&after=%s", after);
+		return restTemplate.getForEntity(String.format("%s?size=%d%s", getTodoEndpoint(), size, cursorParam), TodoDTO[].class);
+	}
+
 	private void updateItemToPastDue(int i) {
 		restTemplate.exchange(String.format("%s/%d", getTodoEndpoint(), i), PATCH, getRequestEntity(getPastDueTodoItem()), TodoDTO.class);
 	}
@@ -244,6 +379,12 @@ class TodoApiIntegrationTest {
 				.build();
 	}
 
+	private ResponseEntity<TodoDTO> updateTodoItem(TodoDTO todo, TodoDTO todoDTO, String eTag) {
+		HttpHeaders headers = getHttpHeaders();
+		headers.setIfMatch(eTag);
+		return restTemplate.exchange(String.format("%s/%d", getTodoEndpoint(), todo.id()), PATCH, new HttpEntity<>(todoDTO, headers), TodoDTO.class);
+	}
+
 	private static HttpEntity<TodoDTO> getRequestEntity(TodoDTO todoDTO) {
 		return new HttpEntity<>(todoDTO, getHttpHeaders());
 	}
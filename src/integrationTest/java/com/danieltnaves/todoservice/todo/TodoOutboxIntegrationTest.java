@@ -0,0 +1,103 @@
+package com.danieltnaves.todoservice.todo;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.events.TodoEventPublisherService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.past-due.sweeper.enabled=false",
+        "todo.outbox.relay.batch-size=50"
+})
+public class TodoOutboxIntegrationTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoEventPublisherService todoEventPublisherService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testEventsOfARolledBackTransactionAreNotRelayed() {
+        Todo todo = new TransactionTemplate(transactionManager).execute(transactionStatus -> {
+            Todo savedTodo = todoRepository.save(getExpiredTodo());
+            todoEventPublisherService.publishUpdatePastDueEvent(savedTodo);
+            assertThat(countOutboxEvents(savedTodo.getId()), is(1));
+            transactionStatus.setRollbackOnly();
+            return savedTodo;
+        });
+        assertThat(countOutboxEvents(todo.getId()), is(0));
+        assertThat(todoRepository.existsById(todo.getId()), is(false));
+    }
+
+    @Test
+    void testRepeatedEventsOfAnItemArePendingOnce() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(transactionStatus -> {
+            Todo savedTodo = todoRepository.save(getExpiredTodo());
+            todoEventPublisherService.publishUpdatePastDueEvent(savedTodo);
+            todoEventPublisherService.publishUpdatePastDueEvent(savedTodo);
+            todoEventPublisherService.publishUpdatePastDueEvent(savedTodo);
+            assertThat(countOutboxEvents(savedTodo.getId()), is(1));
+            transactionStatus.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void testBurstOfEventsIsRelayedInBatches() {
+        double dispatchedEvents = getDispatchedEvents();
+        List<Todo> todos = new TransactionTemplate(transactionManager).execute(transactionStatus -> {
+            List<Todo> savedTodos = todoRepository.saveAll(IntStream.range(0, 300).mapToObj(i -> getExpiredTodo()).toList());
+            savedTodos.forEach(todoEventPublisherService::publishUpdatePastDueEvent);
+            return savedTodos;
+        });
+        await().atMost(30, SECONDS).until(() -> getDispatchedEvents() - dispatchedEvents >= todos.size());
+        todos.forEach(todo -> assertThat(getStatus(todo), is(Todo.Status.PAST_DUE)));
+        todos.forEach(todo -> assertThat(countOutboxEvents(todo.getId()), is(0)));
+        assertThat(meterRegistry.get("todo.outbox.lag").timer().count(), greaterThanOrEqualTo(300L));
+    }
+
+    private int countOutboxEvents(Long todoId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(ID) FROM TODO_OUTBOX WHERE AGGREGATE_ID = ?", Integer.class, todoId);
+    }
+
+    private double getDispatchedEvents() {
+        return meterRegistry.get("todo.outbox.relay.events").tag("outcome", "dispatched").counter().count();
+    }
+
+    private Todo.Status getStatus(Todo todo) {
+        return todoRepository.findById(todo.getId()).orElseThrow(RuntimeException::new).getStatus();
+    }
+
+    private static Todo getExpiredTodo() {
+        return Todo.builder()
+                .description("This past due item is updated by the outbox relay")
+                .status(Todo.Status.NOT_DONE)
+                .createdAt(LocalDateTime.now())
+                .dueAt(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks through EXPLAIN that the SQL generated by Hibernate for the TodoRepository queries filtering by status is
+ * served by the indexes created by the migrations instead of a full table scan. The statements are captured with
+ * their bound parameters as the repository prepares them, and explained with the same parameters. The test runs on
+ * its own database and context, as it replaces every item.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:schemadb;DB_CLOSE_DELAY=-1",
+		"todo.past-due.sweeper.enabled=false"
+})
+class TodoSchemaIntegrationTest {
+
+	public static final String STATUS_ID_INDEX = "IDX_TODO_STATUS_ID";
+
+	public static final String STATUS_DUE_AT_INDEX = "IDX_TODO_STATUS_DUE_AT";
+
+	private static final ThreadLocal<List<CapturedStatement>> CAPTURED_STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@BeforeEach
+	void seed() {
+		todoRepository.deleteAll();
+		List<Todo> todos = IntStream.range(0, 300)
+				.mapToObj(i -> Todo.builder()
+						.description("Todo item " + i)
+						.status(Todo.Status.values()[i % Todo.Status.values().length])
+						.createdAt(LocalDateTime.now())
+						.dueAt(LocalDateTime.now().plusDays(i - 150))
+						.build())
+				.toList();
+		todoRepository.saveAll(todos);
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void testMigrationsApplied() {
+		assertThat(flyway.info().current().getVersion().getVersion(), is("3"));
+	}
+
+	@Test
+	void testFindAllTodoDTOsByStatusUsesStatusIdIndex() {
+		List<CapturedStatement> statements = capture(() -> todoRepository.findAllTodoDTOsByStatus(Todo.Status.NOT_DONE, PageRequest.of(1, 20)));
+		assertThat(statements, hasSize(2));
+		assertThat(explain(statements.get(0)), containsString(STATUS_ID_INDEX));
+		assertThat(explain(statements.get(1)), containsString(STATUS_ID_INDEX));
+	}
+
+	@Test
+	void testFindTodoDTOsByStatusAfterUsesStatusIdIndex() {
+		List<CapturedStatement> statements = capture(() -> todoRepository.findTodoDTOsByStatusAfter(Todo.Status.NOT_DONE, 100L, PageRequest.of(0, 20)));
+		assertThat(statements, hasSize(1));
+		assertThat(explain(statements.get(0)), containsString(STATUS_ID_INDEX));
+	}
+
+	@Test
+	void testFindIdsByStatusAndDueAtBeforeUsesStatusDueAtIndex() {
+		List<CapturedStatement> statements = capture(() -> todoRepository.findIdsByStatusAndDueAtBefore(Todo.Status.NOT_DONE, LocalDateTime.now(), PageRequest.of(0, 500)));
+		assertThat(statements, hasSize(1));
+		assertThat(explain(statements.get(0)), containsString(STATUS_DUE_AT_INDEX));
+	}
+
+	private static List<CapturedStatement> capture(Runnable query) {
+		CAPTURED_STATEMENTS.get().clear();
+		query.run();
+		List<CapturedStatement> statements = List.copyOf(CAPTURED_STATEMENTS.get());
+		CAPTURED_STATEMENTS.get().clear();
+		return statements;
+	}
+
+	private String explain(CapturedStatement statement) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.parameters().values().toArray());
+	}
+
+	private record CapturedStatement(String sql, Map<Integer, Object> parameters) {
+	}
+
+	/**
+	 * Wraps the datasource to record each statement prepared on the current thread with the parameters bound to it.
+	 */
+	@TestConfiguration
+	static class StatementCaptureConfiguration {
+
+		@Bean
+		static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource, StatementCaptureConfiguration::captureConnection) : bean;
+				}
+			};
+		}
+
+		private static Object captureConnection(Object result, Object[] args) {
+			return result instanceof Connection connection ? proxy(Connection.class, connection, StatementCaptureConfiguration::captureStatement) : result;
+		}
+
+		private static Object captureStatement(Object result, Object[] args) {
+			if (!(result instanceof PreparedStatement preparedStatement) || result instanceof CallableStatement || args == null || !(args[0] instanceof String sql)) {
+				return result;
+			}
+			CapturedStatement statement = new CapturedStatement(sql, new TreeMap<>());
+			CAPTURED_STATEMENTS.get().add(statement);
+			return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, (proxy, method, methodArgs) -> {
+				if (method.getName().startsWith("set") && methodArgs != null && methodArgs.length >= 2 && methodArgs[0] instanceof Integer index) {
+					statement.parameters().put(index, method.getName().equals("setNull") ? null : methodArgs[1]);
+				}
+				return invoke(preparedStatement, method, methodArgs);
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, T target, ResultWrapper resultWrapper) {
+			InvocationHandler handler = (proxy, method, args) -> resultWrapper.wrap(invoke(target, method, args), args);
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException exception) {
+				throw exception.getCause();
+			}
+		}
+
+		@FunctionalInterface
+		private interface ResultWrapper {
+
+			Object wrap(Object result, Object[] args);
+
+		}
+
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TodoSearchIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Test
+    void testSearchAddedAndChangedItems() {
+        TodoDTO todo = todoService.addTodoItem(TodoDTO.builder().description("Water the searchable cactus").build());
+        assertThat(getIds(todoService.searchTodos("searchab cact", 0, 10)), contains(todo.id()));
+        todoService.updateTodoItem(todo.id(), TodoDTO.builder().description("Water the searchable fern").build());
+        assertThat(todoService.searchTodos("searchable cactus", 0, 10), is(empty()));
+        assertThat(getIds(todoService.searchTodos("searchable fern", 0, 10)), contains(todo.id()));
+    }
+
+    private static List<Long> getIds(List<TodoDTO> todos) {
+        return todos.stream().map(TodoDTO::id).toList();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoStatsDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.stats.TodoStats;
+import com.danieltnaves.todoservice.todo.stats.TodoStatsReconciler;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TodoStatsIntegrationTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoStats todoStats;
+
+    @Autowired
+    private TodoStatsReconciler todoStatsReconciler;
+
+    @Test
+    void testCountChangedItems() {
+        todoStatsReconciler.reconcile();
+        long notDoneItems = getCount(TodoDTO.Status.NOT_DONE);
+        long doneItems = getCount(TodoDTO.Status.DONE);
+        TodoDTO todo = todoService.addTodoItem(TodoDTO.builder().description("This item will be counted").build());
+        assertThat(getCount(TodoDTO.Status.NOT_DONE), is(notDoneItems + 1));
+        todoService.updateTodoItem(todo.id(), TodoDTO.builder().status(TodoDTO.Status.DONE).build());
+        assertThat(getCount(TodoDTO.Status.NOT_DONE), is(notDoneItems));
+        assertThat(getCount(TodoDTO.Status.DONE), is(doneItems + 1));
+    }
+
+    @Test
+    void testReconcileItemsChangedOutsideTheService() {
+        LocalDateTime dueAt = LocalDateTime.now().plusYears(10);
+        todoRepository.save(Todo.builder()
+                .description("This item will be counted by the reconciler")
+                .status(Todo.Status.NOT_DONE)
+                .createdAt(LocalDateTime.now())
+                .dueAt(dueAt)
+                .build());
+        todoStatsReconciler.reconcile();
+        TodoStatsDTO stats = todoStats.getStats();
+        todoRepository.countByStatus().forEach(statusCount ->
+                assertThat(stats.statuses().get(TodoDTO.Status.fromTodoStatus(statusCount.status())), is(statusCount.count())));
+        assertThat(stats.dueDates().get(dueAt.toLocalDate()), is(1L));
+    }
+
+    private long getCount(TodoDTO.Status status) {
+        return todoStats.getStats().statuses().get(status);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.danieltnaves.todoservice.todo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "todo.virtual-threads.enabled=true")
+public class VirtualThreadsIntegrationTest {
+
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "todo-pinning-check-";
+
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Test
+    void testTransactionalTodoServiceMethodsDoNotPinCarrierThreads() {
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        try (RecordingStream recordingStream = new RecordingStream()) {
+            recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT).withStackTrace().withoutThreshold();
+            recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, pinnedEvents::add);
+            recordingStream.startAsync();
+            try (ExecutorService executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(VIRTUAL_THREAD_NAME_PREFIX, 0).factory())) {
+                IntStream.range(0, 200).forEach(i -> executorService.submit(this::callTodoService));
+            }
+            recordingStream.stop();
+        }
+        assertThat(pinnedEvents.stream().filter(VirtualThreadsIntegrationTest::isRaisedByTheCheckThreads).toList(), is(empty()));
+    }
+
+    private void callTodoService() {
+        TodoDTO todo = todoService.addTodoItem(TodoDTO.builder().description("Virtual thread item").build());
+        todoService.updateTodoItem(todo.id(), TodoDTO.builder().description("Virtual thread item changed").build());
+        todoService.getTodoById(todo.id());
+        todoService.getTodosByFilter(false, 0, 10);
+    }
+
+    private static boolean isRaisedByTheCheckThreads(RecordedEvent event) {
+        return event.getThread() != null && event.getThread().getJavaName().startsWith(VIRTUAL_THREAD_NAME_PREFIX);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.danieltnaves.todoservice.todo.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPatch;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+
+/**
+ * Sends the load test requests over a pool of keep-alive connections. The response bodies are fully read, so the
+ * measured latency includes the serialization and the transfer of the response.
+ */
+public class TodoLoadClient implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final CloseableHttpClient httpClient;
+
+    private final String todoEndpoint;
+
+    private final long[] todoIds;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public TodoLoadClient(String todoEndpoint, int maxConnections, long[] todoIds) {
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .build())
+                .disableAutomaticRetries()
+                .build();
+        this.todoEndpoint = todoEndpoint;
+        this.todoIds = todoIds;
+    }
+
+    /**
+     * Returns the HTTP status of the response or 0 when the request failed without one.
+     */
+    public int execute(TodoOperation operation) {
+        try {
+            return httpClient.execute(toRequest(operation), response -> {
+                EntityUtils.consume(response.getEntity());
+                return response.getCode();
+            });
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    public long addTodoItem() throws IOException {
+        return httpClient.execute(toRequest(TodoOperation.POST), response -> {
+            String body = EntityUtils.toString(response.getEntity());
+            if (response.getCode() != 201) {
+                throw new IOException(String.format("Unable to add a Todo item, status %d: %s", response.getCode(), body));
+            }
+            return OBJECT_MAPPER.readTree(body).get("id").asLong();
+        });
+    }
+
+    private HttpUriRequestBase toRequest(TodoOperation operation) {
+        return switch (operation) {
+            case POST -> withBody(new HttpPost(todoEndpoint), String.format("{\"description\":\"Load test item %d\"}", sequence.incrementAndGet()));
+            case PATCH -> withBody(new HttpPatch(todoEndpoint + "/" + randomTodoId()), String.format("{\"description\":\"Load test item changed %d\"}", sequence.incrementAndGet()));
+            case GET -> new HttpGet(todoEndpoint + "/" + randomTodoId());
+            case LIST -> new HttpGet(String.format("%s?page=%d&size=20", todoEndpoint, ThreadLocalRandom.current().nextInt(10)));
+        };
+    }
+
+    private long randomTodoId() {
+        return todoIds[ThreadLocalRandom.current().nextInt(todoIds.length)];
+    }
+
+    private static HttpUriRequestBase withBody(HttpUriRequestBase request, String body) {
+        request.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return request;
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.danieltnaves.todoservice.todo.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and response counters of one load test run, by operation.
+ */
+public class TodoLoadResult {
+
+    private static final long HIGHEST_TRACKABLE_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String model;
+
+    private final Map<TodoOperation, Histogram> latencies = new EnumMap<>(TodoOperation.class);
+
+    private final Map<TodoOperation, LongAdder> failures = new EnumMap<>(TodoOperation.class);
+
+    private long elapsedNanos;
+
+    public TodoLoadResult(String model) {
+        this.model = model;
+        for (TodoOperation operation : TodoOperation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY_MICROS, SIGNIFICANT_DIGITS));
+            failures.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(TodoOperation operation, long latencyNanos, int status) {
+        latencies.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_LATENCY_MICROS));
+        if (status < 200 || status >= 300) {
+            failures.get(operation).increment();
+        }
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getTotalRequests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        double elapsedSeconds = elapsedNanos / 1_000_000_000d;
+        report.append(String.format("%s (%.1f s)%n", model, elapsedSeconds));
+        report.append(String.format("%-18s %10s %10s %12s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "non-2xx", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (TodoOperation operation : TodoOperation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            report.append(String.format("%-18s %10d %10d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.getEndpoint(),
+                    histogram.getTotalCount(),
+                    failures.get(operation).sum(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue())));
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000d;
+    }
+
+}
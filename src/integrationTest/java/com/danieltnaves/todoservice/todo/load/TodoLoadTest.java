@@ -0,0 +1,153 @@
+package com.danieltnaves.todoservice.todo.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Drives a mix of requests against the Todo endpoints with two load models and writes the latency percentiles and the
+ * throughput of each endpoint to {@code todo.load-test.report-dir}:
+ * <ul>
+ *     <li>closed loop: {@code todo.load-test.clients} clients send a request as soon as their previous one completes,
+ *     which measures the capacity of the service.</li>
+ *     <li>fixed arrival rate: the requests are started on a fixed schedule of {@code todo.load-test.rate} requests per
+ *     second, whatever the response times are, and the latency is measured from the scheduled start. A stalled service
+ *     delays the following requests instead of hiding them, so the percentiles are free of coordinated omission.</li>
+ * </ul>
+ * Only runs with {@code -Dtodo.load-test.enabled=true}, which the {@code loadTest} Gradle task sets.
+ */
+@EnabledIfSystemProperty(named = "todo.load-test.enabled", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TodoLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${todo.load-test.clients:32}")
+    private int clients;
+
+    @Value("${todo.load-test.rate:500}")
+    private int rate;
+
+    @Value("${todo.load-test.warmup:PT10S}")
+    private Duration warmup;
+
+    @Value("${todo.load-test.duration:PT30S}")
+    private Duration duration;
+
+    @Value("${todo.load-test.seed-items:1000}")
+    private int seedItems;
+
+    @Value("${todo.load-test.mix:post:10,patch:20,get:50,list:20}")
+    private String mix;
+
+    @Value("${todo.load-test.report-dir:build/reports/load-test}")
+    private String reportDir;
+
+    @Value("${todo.limits.enabled:true}")
+    private boolean limitsEnabled;
+
+    private TodoOperation.Mix operationMix;
+
+    private TodoLoadClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String todoEndpoint = "http://localhost:" + port + "/todo-service/todo";
+        operationMix = TodoOperation.parseMix(mix);
+        try (TodoLoadClient seedClient = new TodoLoadClient(todoEndpoint, 1, new long[0])) {
+            long[] todoIds = new long[seedItems];
+            for (int i = 0; i < seedItems; i++) {
+                todoIds[i] = seedClient.addTodoItem();
+            }
+            client = new TodoLoadClient(todoEndpoint, clients, todoIds);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        runClosedLoop(new TodoLoadResult("warmup"), warmup);
+        TodoLoadResult closedLoop = runClosedLoop(new TodoLoadResult(String.format("Closed loop, %d clients", clients)), duration);
+        TodoLoadResult fixedRate = runFixedRate(new TodoLoadResult(String.format("Fixed arrival rate, %d req/s", rate)), duration);
+        writeReport(List.of(closedLoop, fixedRate));
+        assertThat(closedLoop.getTotalRequests(), is(greaterThan(0L)));
+        assertThat(fixedRate.getTotalRequests(), is(greaterThan(0L)));
+    }
+
+    private TodoLoadResult runClosedLoop(TodoLoadResult result, Duration runDuration) {
+        long start = System.nanoTime();
+        long end = start + runDuration.toNanos();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executorService.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        TodoOperation operation = operationMix.next();
+                        long requestStart = System.nanoTime();
+                        int status = client.execute(operation);
+                        result.record(operation, System.nanoTime() - requestStart, status);
+                    }
+                });
+            }
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private TodoLoadResult runFixedRate(TodoLoadResult result, Duration runDuration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + runDuration.toNanos();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduledStart = start; scheduledStart < end; scheduledStart += intervalNanos) {
+                LockSupport.parkNanos(scheduledStart - System.nanoTime());
+                long requestStart = scheduledStart;
+                executorService.submit(() -> {
+                    TodoOperation operation = operationMix.next();
+                    int status = client.execute(operation);
+                    result.record(operation, System.nanoTime() - requestStart, status);
+                });
+            }
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private void writeReport(List<TodoLoadResult> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Todo service load test, %s", LocalDateTime.now()));
+        lines.add(String.format("JVM %s, %s %s, %d processors, max heap %d MB", Runtime.version(), System.getProperty("os.name"),
+                System.getProperty("os.arch"), Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+        lines.add(String.format("mix %s, seed items %d, warmup %s, duration %s, max connections %d, concurrency limits %s",
+                operationMix, seedItems, warmup, duration, clients, limitsEnabled ? "on" : "off"));
+        lines.add("");
+        results.forEach(result -> lines.add(result.toReport()));
+        Path report = Files.createDirectories(Path.of(reportDir)).resolve("load-test-report.txt");
+        Files.write(report, lines, StandardCharsets.UTF_8);
+    }
+
+}
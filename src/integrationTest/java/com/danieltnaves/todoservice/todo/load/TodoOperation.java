@@ -0,0 +1,76 @@
+package com.danieltnaves.todoservice.todo.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The requests sent by the load test, picked at random with the weights of the configured mix, e.g.
+ * {@code post:10,patch:20,get:50,list:20}.
+ */
+public enum TodoOperation {
+    POST("POST /todo"),
+    PATCH("PATCH /todo/{id}"),
+    GET("GET /todo/{id}"),
+    LIST("GET /todo");
+
+    private final String endpoint;
+
+    TodoOperation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Mix parseMix(String mix) {
+        Map<TodoOperation, Integer> weights = new EnumMap<>(TodoOperation.class);
+        for (String entry : StringUtils.split(mix, ',')) {
+            String[] weight = StringUtils.split(entry, ':');
+            if (weight.length != 2) {
+                throw new IllegalArgumentException(String.format("Invalid operation weight '%s', expected <operation>:<weight>", entry));
+            }
+            weights.put(TodoOperation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return new Mix(weights);
+    }
+
+    public static final class Mix {
+
+        private final Map<TodoOperation, Integer> weights;
+
+        private final TodoOperation[] operations;
+
+        private final int[] cumulativeWeights;
+
+        private Mix(Map<TodoOperation, Integer> weights) {
+            this.weights = weights;
+            this.operations = weights.keySet().toArray(TodoOperation[]::new);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("The operation mix needs at least one positive weight");
+            }
+        }
+
+        public TodoOperation next() {
+            int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulativeWeights, value + 1);
+            return operations[index >= 0 ? index : -index - 1];
+        }
+
+        @Override
+        public String toString() {
+            return weights.toString();
+        }
+
+    }
+
+}
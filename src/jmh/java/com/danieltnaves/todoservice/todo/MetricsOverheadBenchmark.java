@@ -0,0 +1,103 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.GenericHttpException;
+import com.danieltnaves.todoservice.todo.rules.UpdateDoneUpdateTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRule;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of the metrics recorded around each rule evaluation, comparing the plain rule, the rule engine
+ * recording into no-op meters and the rule engine recording into meters publishing percentile histograms.
+ */
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private UpdateTodoItemRule rule;
+
+    private UpdateTodoItemRuleEngine engine;
+
+    private UpdateTodoItemRuleEngine instrumentedEngine;
+
+    private Todo notDoneTodo;
+
+    private Todo doneTodo;
+
+    private TodoDTO update;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        rule = new UpdateDoneUpdateTodoItemRule();
+        engine = new UpdateTodoItemRuleEngine(List.of(new UpdateDoneUpdateTodoItemRule()), new CompositeMeterRegistry());
+        instrumentedEngine = new UpdateTodoItemRuleEngine(List.of(new UpdateDoneUpdateTodoItemRule()), meterRegistry);
+        notDoneTodo = getTodo(Todo.Status.NOT_DONE);
+        doneTodo = getTodo(Todo.Status.DONE);
+        update = TodoDTO.builder().description("Go to the mall changed").build();
+    }
+
+    @Benchmark
+    public TodoDTO evaluateRule() {
+        rule.evaluate(update, notDoneTodo);
+        return update;
+    }
+
+    @Benchmark
+    public TodoDTO evaluateEngine() {
+        engine.evaluate(update, notDoneTodo);
+        return update;
+    }
+
+    @Benchmark
+    public TodoDTO evaluateInstrumentedEngine() {
+        instrumentedEngine.evaluate(update, notDoneTodo);
+        return update;
+    }
+
+    @Benchmark
+    public String evaluateRejectingRule() {
+        try {
+            rule.evaluate(update, doneTodo);
+            return null;
+        } catch (GenericHttpException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String evaluateInstrumentedRejectingEngine() {
+        try {
+            instrumentedEngine.evaluate(update, doneTodo);
+            return null;
+        } catch (GenericHttpException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    private static Todo getTodo(Todo.Status status) {
+        return Todo.builder()
+                .id(1L)
+                .description("Go to the mall")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.ApiApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Calls the four {@link TodoController} endpoints from 64 concurrent clients with the requests handled either by
+ * the Tomcat platform thread pool or by virtual threads. The Hikari pool is kept small, so the requests spend most
+ * of their time blocked waiting for a connection.
+ */
+@State(Scope.Benchmark)
+@Threads(64)
+public class TodoControllerThreadingBenchmark {
+
+    private static final int SEEDED_ITEMS = 1_000;
+
+    private static final String JSON = "application/json";
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private HttpClient httpClient;
+
+    private String todoEndpoint;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        applicationContext = new SpringApplicationBuilder(ApiApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh-threading-" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=4",
+                        "server.tomcat.threads.max=32",
+                        "todo.virtual-threads.enabled=" + virtualThreads,
+                        "logging.level.root=WARN")
+                .run();
+        httpClient = HttpClient.newHttpClient();
+        todoEndpoint = String.format("http://localhost:%s/todo-service/todo", applicationContext.getEnvironment().getProperty("local.server.port"));
+        for (int i = 0; i < SEEDED_ITEMS; i++) {
+            addItem();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int addItem() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(todoEndpoint))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"description\": \"Go to the mall\"}")));
+    }
+
+    @Benchmark
+    public int updateItem() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(todoEndpoint + "/" + getRandomId()))
+                .header("Content-Type", JSON)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"description\": \"Go to the mall changed\"}")));
+    }
+
+    @Benchmark
+    public int getItem() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(todoEndpoint + "/" + getRandomId())).GET());
+    }
+
+    @Benchmark
+    public int getItems() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(todoEndpoint + "?page=0&size=20")).GET());
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.header("Accept", JSON).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static long getRandomId() {
+        return ThreadLocalRandom.current().nextLong(1, SEEDED_ITEMS + 1);
+    }
+
+}
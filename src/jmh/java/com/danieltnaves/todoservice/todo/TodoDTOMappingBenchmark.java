@@ -0,0 +1,42 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class TodoDTOMappingBenchmark {
+
+    private Todo todo;
+
+    private TodoDTO todoDTO;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        todo = Todo.builder()
+                .id(1L)
+                .description("Go to the mall")
+                .status(Todo.Status.DONE)
+                .createdAt(now.minusDays(1))
+                .doneAt(now)
+                .dueAt(now.plusDays(1))
+                .build();
+        todoDTO = TodoDTO.fromTodoToTodoDTO(todo);
+    }
+
+    @Benchmark
+    public TodoDTO fromTodoToTodoDTO() {
+        return TodoDTO.fromTodoToTodoDTO(todo);
+    }
+
+    @Benchmark
+    public Todo fromTodoDTOToTodo() {
+        return TodoDTO.fromTodoDTOToTodo(todoDTO);
+    }
+
+}
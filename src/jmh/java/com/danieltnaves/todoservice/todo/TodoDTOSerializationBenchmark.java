@@ -0,0 +1,47 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+public class TodoDTOSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int items;
+
+    private ObjectMapper objectMapper;
+
+    private List<TodoDTO> todos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+        todos = LongStream.rangeClosed(1, items)
+                .mapToObj(id -> TodoDTO.builder()
+                        .id(id)
+                        .description("Todo item " + id)
+                        .status(id % 2 == 0 ? TodoDTO.Status.DONE : TodoDTO.Status.NOT_DONE)
+                        .createdAt(now)
+                        .doneAt(id % 2 == 0 ? now : null)
+                        .dueAt(now.plusDays(id))
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeTodoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(todos);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.readmodel.TodoColumnStore;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reads single items and pages of 20 items from a {@link TodoColumnStore} holding 1M and 10M items, a third of them
+ * done. The bytes allocated per item are printed once the store is filled.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class TodoReadModelBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000", "10000000"})
+    private int items;
+
+    private TodoColumnStore todoColumnStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        todoColumnStore = new TodoColumnStore(items);
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (long id = 1; id <= items; id++) {
+            TodoDTO.Status status = id % 3 == 0 ? TodoDTO.Status.DONE : TodoDTO.Status.NOT_DONE;
+            todoColumnStore.upsert(new TodoDTO(id, "Todo item " + id, status, createdAt,
+                    status == TodoDTO.Status.DONE ? createdAt : null, createdAt.plusDays(1), 0L));
+        }
+        System.out.printf("%n%d items, %.1f bytes per item%n", items, (double) todoColumnStore.getAllocatedBytes() / items);
+    }
+
+    @Benchmark
+    public Optional<TodoDTO> findById() {
+        return todoColumnStore.findById(ThreadLocalRandom.current().nextLong(1, items + 1));
+    }
+
+    @Benchmark
+    public List<TodoDTO> findFirstPage() {
+        return todoColumnStore.findPage(null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> findMiddlePage() {
+        return todoColumnStore.findPage(null, items / 2, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> findMiddleNotDonePage() {
+        return todoColumnStore.findPage(TodoDTO.Status.NOT_DONE, items / 3, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> findMiddlePageByCursor() {
+        return todoColumnStore.findAfter(TodoDTO.Status.NOT_DONE, items / 2, PAGE_SIZE);
+    }
+
+}
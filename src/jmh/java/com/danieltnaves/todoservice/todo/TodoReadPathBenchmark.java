@@ -0,0 +1,81 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.ApiApplication;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Reads one page of Todo items by hydrating managed entities and copying them into {@link TodoDTO},
+ * and by projecting the rows straight into {@link TodoDTO}. Compare {@code gc.alloc.rate.norm} to see the allocation per page.
+ */
+@State(Scope.Benchmark)
+public class TodoReadPathBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private TodoRepository todoRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:jmh-todo-read-path-" + pageSize, "logging.level.root=WARN")
+                .run();
+        todoRepository = applicationContext.getBean(TodoRepository.class);
+        seed();
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int offset = 0; offset < ITEMS; offset += SEED_CHUNK_SIZE) {
+            todoRepository.saveAll(IntStream.range(offset, Math.min(offset + SEED_CHUNK_SIZE, ITEMS))
+                    .mapToObj(i -> Todo.builder()
+                            .description("Todo item " + i)
+                            .status(Todo.Status.NOT_DONE)
+                            .createdAt(now)
+                            .dueAt(now.plusDays(1))
+                            .build())
+                    .toList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<TodoDTO> readPageOfEntities() {
+        return todoRepository.findAll(PageRequest.of(1, pageSize))
+                .stream()
+                .map(TodoDTO::fromTodoToTodoDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TodoDTO> readPageOfProjections() {
+        return todoRepository.findAllTodoDTOs(PageRequest.of(1, pageSize)).getContent();
+    }
+
+}
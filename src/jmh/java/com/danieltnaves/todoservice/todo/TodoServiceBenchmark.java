@@ -0,0 +1,85 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.ApiApplication;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs {@link TodoService#getTodosByFilter(boolean, Integer, Integer)} against an in-memory H2 database
+ * seeded with {@code items} rows, reading both the first page and a page in the middle of the table.
+ */
+@State(Scope.Benchmark)
+public class TodoServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    @Param({"1000", "10000", "100000"})
+    private int items;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private TodoService todoService;
+
+    private int middlePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:jmh-todo-" + items, "logging.level.root=WARN")
+                .run();
+        todoService = applicationContext.getBean(TodoService.class);
+        seed(applicationContext.getBean(TodoRepository.class));
+        middlePage = items / PAGE_SIZE / 2;
+    }
+
+    private void seed(TodoRepository todoRepository) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int offset = 0; offset < items; offset += SEED_CHUNK_SIZE) {
+            todoRepository.saveAll(IntStream.range(offset, Math.min(offset + SEED_CHUNK_SIZE, items))
+                    .mapToObj(i -> Todo.builder()
+                            .description("Todo item " + i)
+                            .status(i % 3 == 0 ? Todo.Status.DONE : Todo.Status.NOT_DONE)
+                            .createdAt(now)
+                            .doneAt(i % 3 == 0 ? now : null)
+                            .build())
+                    .toList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<TodoDTO> getFirstPageOfAllItems() {
+        return todoService.getTodosByFilter(false, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> getMiddlePageOfAllItems() {
+        return todoService.getTodosByFilter(false, middlePage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> getFirstPageOfNotDoneItems() {
+        return todoService.getTodosByFilter(true, 0, PAGE_SIZE);
+    }
+
+}
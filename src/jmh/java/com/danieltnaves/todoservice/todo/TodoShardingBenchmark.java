@@ -0,0 +1,99 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.ApiApplication;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.errors.ConcurrentTodoItemUpdateException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures how the {@link TodoService} throughput scales with 1, 2 and 4 in-memory H2 shards under 8 concurrent
+ * callers. The single-item calls are routed to one shard and the first page of the list is merged from every shard.
+ * The item cache is disabled, so every read reaches a shard.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class TodoShardingBenchmark {
+
+    private static final int SEED_ITEMS = 10_000;
+
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "2", "4"})
+    private int shards;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private TodoService todoService;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String urls = IntStream.range(0, shards)
+                .mapToObj(shard -> "jdbc:h2:mem:jmh-shards-" + shards + "-" + shard + ";DB_CLOSE_DELAY=-1")
+                .collect(Collectors.joining(","));
+        applicationContext = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--todo.sharding.enabled=true", "--todo.sharding.urls=" + urls, "--todo.sharding.username=sa",
+                        "--todo.sharding.password=password", "--todo.cache.maximum-size=0", "--todo.past-due.sweeper.enabled=false",
+                        "--todo.stats.reconciler.enabled=false", "--logging.level.root=WARN");
+        todoService = applicationContext.getBean(TodoService.class);
+        ids = IntStream.range(0, SEED_ITEMS / SEED_CHUNK_SIZE)
+                .mapToObj(chunk -> todoService.addTodoItems(IntStream.range(0, SEED_CHUNK_SIZE)
+                        .mapToObj(i -> TodoDTO.builder().description("Todo item " + (chunk * SEED_CHUNK_SIZE + i)).build())
+                        .toList()))
+                .flatMap(List::stream)
+                .mapToLong(TodoDTO::id)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public TodoDTO addTodoItem() {
+        return todoService.addTodoItem(TodoDTO.builder().description("Added Todo item").build());
+    }
+
+    @Benchmark
+    public TodoDTO getTodoById() {
+        return todoService.getTodoById(randomId());
+    }
+
+    @Benchmark
+    public TodoDTO updateTodoItem() {
+        try {
+            return todoService.updateTodoItem(randomId(), TodoDTO.builder().description("Changed Todo item").build());
+        } catch (ConcurrentTodoItemUpdateException exception) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public List<TodoDTO> getFirstPageOfAllItems() {
+        return todoService.getTodosByFilter(false, 0, PAGE_SIZE);
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+}
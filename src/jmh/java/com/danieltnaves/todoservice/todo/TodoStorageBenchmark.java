@@ -0,0 +1,110 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.ApiApplication;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.errors.ConcurrentTodoItemUpdateException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the {@link TodoService} write and read throughput on the JPA/H2 storage and on the Todo log, with and
+ * without fsync, under 8 concurrent callers. The in-memory H2 database never reaches the disk, so the log without
+ * fsync is the like-for-like comparison and the log with fsync shows the cost of the group-committed durability.
+ * The item cache is disabled, so every read reaches the storage.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class TodoStorageBenchmark {
+
+    private static final int SEED_ITEMS = 10_000;
+
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jpa", "log", "log-no-fsync"})
+    private String storage;
+
+    private Path logDirectory;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private TodoService todoService;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logDirectory = Files.createTempDirectory("jmh-todo-log");
+        applicationContext = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--todo.storage.backend=" + (storage.startsWith("log") ? "log" : "jpa"), "--todo.storage.log.directory=" + logDirectory,
+                        "--todo.storage.log.fsync=" + !storage.endsWith("no-fsync"), "--spring.datasource.url=jdbc:h2:mem:jmh-storage-" + storage,
+                        "--todo.outbox.enabled=false", "--todo.cache.maximum-size=0", "--todo.past-due.sweeper.enabled=false",
+                        "--todo.stats.reconciler.enabled=false", "--logging.level.root=WARN");
+        todoService = applicationContext.getBean(TodoService.class);
+        ids = IntStream.range(0, SEED_ITEMS / SEED_CHUNK_SIZE)
+                .mapToObj(chunk -> todoService.addTodoItems(IntStream.range(0, SEED_CHUNK_SIZE)
+                        .mapToObj(i -> TodoDTO.builder().description("Todo item " + (chunk * SEED_CHUNK_SIZE + i)).build())
+                        .toList()))
+                .flatMap(List::stream)
+                .mapToLong(TodoDTO::id)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        applicationContext.close();
+        try (Stream<Path> files = Files.walk(logDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public TodoDTO addTodoItem() {
+        return todoService.addTodoItem(TodoDTO.builder().description("Added Todo item").build());
+    }
+
+    @Benchmark
+    public TodoDTO updateTodoItem() {
+        try {
+            return todoService.updateTodoItem(randomId(), TodoDTO.builder().description("Changed Todo item").build());
+        } catch (ConcurrentTodoItemUpdateException exception) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public TodoDTO getTodoById() {
+        return todoService.getTodoById(randomId());
+    }
+
+    @Benchmark
+    public List<TodoDTO> getFirstPageOfAllItems() {
+        return todoService.getTodosByFilter(false, 0, PAGE_SIZE);
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.rules.PastDueUpdateWithFutureDateRuleUpdate;
+import com.danieltnaves.todoservice.todo.rules.UpdateDoneUpdateTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdatePastDueTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemStatusToPastDueRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemWithExpiredDueAtDateRule;
+import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRule;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Evaluates the complete rule chain the same way {@link TodoService#updateTodoItems(List)} does for each item,
+ * once for an update accepted by every rule and once for an update rejected by the last rule.
+ * The {@code WithEngine} variants run the same chain through {@link UpdateTodoItemRuleEngine}, which reads the clock once per item
+ * and records the per-rule metrics with percentile histograms, as the service does.
+ */
+@State(Scope.Benchmark)
+public class UpdateTodoItemRulesBenchmark {
+
+    private List<UpdateTodoItemRule> updateTodoItemRules;
+
+    private UpdateTodoItemRuleEngine updateTodoItemRuleEngine;
+
+    private Todo todo;
+
+    private TodoDTO acceptedUpdate;
+
+    private TodoDTO rejectedUpdate;
+
+    @Setup
+    public void setUp() {
+        updateTodoItemRules = List.of(new PastDueUpdateWithFutureDateRuleUpdate(), new UpdateDoneUpdateTodoItemRule(), new UpdatePastDueTodoItemRule(),
+                new UpdateTodoItemStatusToPastDueRule(), new UpdateTodoItemWithExpiredDueAtDateRule());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        updateTodoItemRuleEngine = new UpdateTodoItemRuleEngine(updateTodoItemRules, meterRegistry);
+        todo = Todo.builder()
+                .id(1L)
+                .description("Go to the mall")
+                .status(Todo.Status.NOT_DONE)
+                .createdAt(LocalDateTime.now())
+                .dueAt(LocalDateTime.now().plusDays(3))
+                .build();
+        acceptedUpdate = TodoDTO.builder()
+                .description("Go to the mall changed")
+                .dueAt(LocalDateTime.now().plusDays(5))
+                .build();
+        rejectedUpdate = TodoDTO.builder()
+                .description("Go to the mall changed")
+                .dueAt(LocalDateTime.now().minusDays(5))
+                .build();
+    }
+
+    @Benchmark
+    public TodoDTO evaluateAcceptedUpdate() {
+        updateTodoItemRules.forEach(updateTodoItemRule -> updateTodoItemRule.evaluate(acceptedUpdate, todo));
+        return acceptedUpdate;
+    }
+
+    @Benchmark
+    public RuntimeException evaluateRejectedUpdate() {
+        try {
+            updateTodoItemRules.forEach(updateTodoItemRule -> updateTodoItemRule.evaluate(rejectedUpdate, todo));
+            return null;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public TodoDTO evaluateAcceptedUpdateWithEngine() {
+        updateTodoItemRuleEngine.evaluate(acceptedUpdate, todo);
+        return acceptedUpdate;
+    }
+
+    @Benchmark
+    public RuntimeException evaluateRejectedUpdateWithEngine() {
+        try {
+            updateTodoItemRuleEngine.evaluate(rejectedUpdate, todo);
+            return null;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+}
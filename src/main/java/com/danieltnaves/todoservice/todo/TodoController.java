@@ -3,9 +3,21 @@ package com.danieltnaves.todoservice.todo;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
+import com.danieltnaves.todoservice.todo.api.TodoCursorPage;
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoETag;
+import com.danieltnaves.todoservice.todo.api.TodoImportSummaryDTO;
+import com.danieltnaves.todoservice.todo.api.TodoStatsDTO;
+import com.danieltnaves.todoservice.todo.bulk.TodoExportService;
+import com.danieltnaves.todoservice.todo.bulk.TodoExportTimeoutInterceptor;
+import com.danieltnaves.todoservice.todo.bulk.TodoImportService;
+import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
+import com.danieltnaves.todoservice.todo.stats.TodoStats;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,8 +25,12 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,9 +38,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @OpenAPIDefinition(info = @Info(
         title = "Todo Service API",
@@ -39,10 +58,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class TodoController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TodoService todoService;
 
-    public TodoController(TodoService todoService) {
+    private final TodoExportService todoExportService;
+
+    private final TodoExportTimeoutInterceptor todoExportTimeoutInterceptor;
+
+    private final TodoImportService todoImportService;
+
+    private final TodoStats todoStats;
+
+    public TodoController(TodoService todoService, TodoExportService todoExportService, TodoExportTimeoutInterceptor todoExportTimeoutInterceptor,
+                          TodoImportService todoImportService, TodoStats todoStats) {
         this.todoService = todoService;
+        this.todoExportService = todoExportService;
+        this.todoExportTimeoutInterceptor = todoExportTimeoutInterceptor;
+        this.todoImportService = todoImportService;
+        this.todoStats = todoStats;
     }
 
     @Operation(summary = "Add a new Todo item", description = """
@@ -89,12 +123,106 @@ public class TodoController {
         return ResponseEntity.created(URI.create(String.format("/todo/%s", createdTodo.id()))).body(createdTodo);
     }
 
+    @Operation(summary = "Add a batch of new Todo items", description = """
+            Add several new Todo items at once. Every item follows the same rules of the endpoint to add a single item
+            and all items are inserted on the same transaction, so either every item is created or none of them.
+            The maximum number of items per request is defined by the property todo.batch.max-size.
+            """)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(examples = {
+                    @ExampleObject(value = """
+                            [
+                              {
+                                "description": "Go to the mall"
+                              },
+                              {
+                                "description": "Finish to read my favorite book"
+                              }
+                            ]
+                            """)
+            })
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Successful operation and the new Todo items were created", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            [
+                              {
+                                "id": 1,
+                                "description": "Go to the mall",
+                                "status": "NOT_DONE",
+                                "createdAt": "2023-10-17T20:54:42.862674"
+                              },
+                              {
+                                "id": 2,
+                                "description": "Finish to read my favorite book",
+                                "status": "NOT_DONE",
+                                "createdAt": "2023-10-17T20:54:42.862674"
+                              }
+                            ]
+                            """)
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "Bad request due wrong information sent from the client", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "BAD_REQUEST",
+                              "message": "The Todo description wasn't provided for the item at position 1",
+                              "description": "uri=/todo-service/todo/batch"
+                            }
+                            """)
+                    })
+            })
+    })
+    @PostMapping(path = "todo/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(CREATED)
+    public ResponseEntity<List<TodoDTO>> addItems(@RequestBody List<TodoDTO> todoDTOs) {
+        return ResponseEntity.status(CREATED).body(todoService.addTodoItems(todoDTOs));
+    }
+
+    @Operation(summary = "Import Todo items", description = """
+            Import Todo items sent as newline-delimited JSON, one item per line. Every line follows the same rules of the
+            endpoint to add a single item and the lines that break them are rejected without stopping the import.
+            The valid items are inserted and committed in chunks of todo.import.chunk-size items, so the body is never
+            fully loaded in memory. The response summarizes the import with the line numbers of the rejected items,
+            limited to todo.import.max-rejected-lines.
+            """)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = {
+                    @ExampleObject(value = """
+                            {"description": "Go to the mall"}
+                            {"description": "Finish to read my favorite book"}
+                            """)
+            })
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Summary of the import", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "importedItems": 2,
+                              "rejectedItems": 1,
+                              "rejectedLines": [2],
+                              "durationMillis": 12,
+                              "itemsPerSecond": 166.66
+                            }
+                            """)
+                    })
+            })
+    })
+    @PostMapping(path = "todo/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(OK)
+    public ResponseEntity<TodoImportSummaryDTO> importItems(InputStream inputStream) throws IOException {
+        return ResponseEntity.ok().body(todoImportService.importTodoItems(inputStream));
+    }
+
     @Operation(summary = "Update an existing item", description = """
             This endpoint updates a given item by id sent via path param. There are some operations that are not allowed:
             1) Update an items already done. It needs to be changed to NOT_DONE before updating any other information like description for example.
             2) Update an PAST_DUE item.
             3) Update the status to PAST_DUE with a non-expired/future date.
             4) Update a Todo item with a expired date and a status different of PAST_DUE
+
+            The item is changed with a single conditional update. Send the ETag returned when the item was retrieved on
+            the If-Match header to only apply the changes if the item wasn't changed in the meantime.
             """)
     @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
             @Content(examples = {
@@ -169,12 +297,103 @@ public class TodoController {
                             }
                             """)
                     })
+            }),
+            @ApiResponse(responseCode = "409", description = "The Todo item was changed by another request at the same time", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "CONFLICT",
+                              "message": "The Todo item with the ID 1 was changed by another request",
+                              "description": "uri=/todo-service/todo/1"
+                            }
+                            """)
+                    })
+            }),
+            @ApiResponse(responseCode = "412", description = "The Todo item doesn't match the ETag sent on the If-Match header", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "PRECONDITION_FAILED",
+                              "message": "The Todo item with the ID 1 doesn't match the version 3 anymore",
+                              "description": "uri=/todo-service/todo/1"
+                            }
+                            """)
+                    })
             })
     })
     @PatchMapping(path = "todo/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(OK)
-    public ResponseEntity<TodoDTO> updateItem(@PathVariable Long id, @Valid @RequestBody TodoDTO todoDTO) {
-        return ResponseEntity.ok().body(todoService.updateTodoItem(id, todoDTO));
+    public ResponseEntity<TodoDTO> updateItem(@PathVariable Long id,
+                                              @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @Valid @RequestBody TodoDTO todoDTO) {
+        TodoDTO updatedTodo = todoService.updateTodoItem(id, TodoETag.decode(ifMatch), todoDTO);
+        return ResponseEntity.ok().eTag(TodoETag.encode(updatedTodo.version())).body(updatedTodo);
+    }
+
+    @Operation(summary = "Update a batch of existing items", description = """
+            This endpoint updates several items at once, for example to synchronize the changes made offline by a client.
+            All items are loaded with a single query and every change is evaluated with the same rules of the endpoint to
+            update a single item. The accepted changes are written on the same transaction and the result of each change
+            is reported individually, so a rejected change doesn't prevent the other items from being updated.
+            The maximum number of items per request is defined by the property todo.batch.max-size.
+            """)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(examples = {
+                    @ExampleObject(value = """
+                            [
+                              {
+                                "id": 1,
+                                "todo": {
+                                  "status": "DONE"
+                                }
+                              },
+                              {
+                                "id": 2,
+                                "todo": {
+                                  "description": "Go to the mall changed"
+                                }
+                              }
+                            ]
+                            """)
+            })
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The result of the change of each item", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            [
+                              {
+                                "id": 1,
+                                "httpStatus": "OK",
+                                "todo": {
+                                  "id": 1,
+                                  "description": "Go to the mall",
+                                  "status": "DONE",
+                                  "createdAt": "2023-10-17T21:54:11.322878",
+                                  "doneAt": "2023-10-17T21:54:35.684929"
+                                }
+                              },
+                              {
+                                "id": 2,
+                                "httpStatus": "BAD_REQUEST",
+                                "message": "The Todo item 2 was already marked as DONE. It needs to be updated to NOT_DONE before performing this operation"
+                              }
+                            ]
+                            """)
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "Bad request due wrong information sent from the client", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "BAD_REQUEST",
+                              "message": "At least one Todo item must be provided",
+                              "description": "uri=/todo-service/todo/batch"
+                            }
+                            """)
+                    })
+            })
+    })
+    @PatchMapping(path = "todo/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(OK)
+    public ResponseEntity<List<TodoBatchUpdateResultDTO>> updateItems(@RequestBody List<TodoBatchUpdateDTO> todoBatchUpdateDTOs) {
+        return ResponseEntity.ok().body(todoService.updateTodoItems(todoBatchUpdateDTOs));
     }
 
     @Operation(summary = "Retrieve a list of Todo items", description = """
@@ -183,9 +402,18 @@ public class TodoController {
             2) With the flag onlyNotDone = false. When this flags is set as false this endpoint retrieves all Todo items.
             
             The default value is false and onlyNotDone is non required.
+            
+            The list can be paginated in two ways:
+            1) Offset pagination, sending the page number and the size.
+            2) Cursor pagination, sending only the size. When there are more items, the response header X-Next-Cursor
+            carries an opaque cursor that must be sent on the after param to retrieve the next items. This mode keeps
+            the same latency no matter how deep the client scrolls into the list.
+            The page and after params can't be sent together.
             """)
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Retrieve a list of Todo items", content = {
+            @ApiResponse(responseCode = "200", description = "Retrieve a list of Todo items", headers = {
+                    @Header(name = NEXT_CURSOR_HEADER, description = "Cursor to retrieve the next items when using cursor pagination")
+            }, content = {
                     @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
                             [
                               {
@@ -204,14 +432,128 @@ public class TodoController {
                             ]
                             """)
                     })
+            }),
+            @ApiResponse(responseCode = "400", description = "Both the page and the after params were sent, or the cursor is invalid", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "BAD_REQUEST",
+                              "message": "The page and after params can't be sent together",
+                              "description": "uri=/todo-service/todo"
+                            }
+                            """)
+                    })
             })
     })
     @GetMapping(path = "todo", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(OK)
     public ResponseEntity<List<TodoDTO>> updateItem(@RequestParam(name = "onlyNotDone", required = false) boolean onlyPastDueItems,
-                                                    @RequestParam(name = "page") Integer page,
-                                                    @RequestParam(name = "size") Integer size) {
-        return ResponseEntity.ok().body(todoService.getTodosByFilter(onlyPastDueItems, page, size));
+                                                    @RequestParam(name = "page", required = false) Integer page,
+                                                    @RequestParam(name = "size") Integer size,
+                                                    @RequestParam(name = "after", required = false) String after) {
+        if (ObjectUtils.isNotEmpty(page) && ObjectUtils.isNotEmpty(after)) {
+            throw new InvalidInputException(TodoService.PAGE_AND_CURSOR_MESSAGE);
+        }
+        if (ObjectUtils.isNotEmpty(page)) {
+            return ResponseEntity.ok().body(todoService.getTodosByFilter(onlyPastDueItems, page, size));
+        }
+        TodoCursorPage todoCursorPage = todoService.getTodosByCursor(onlyPastDueItems, after, size);
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (ObjectUtils.isNotEmpty(todoCursorPage.nextCursor())) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, todoCursorPage.nextCursor());
+        }
+        return responseBuilder.body(todoCursorPage.todos());
+    }
+
+    @Operation(summary = "Search Todo items by description", description = """
+            This endpoint returns the Todo items whose description contains, for every word of the q param, a word
+            starting with it, ignoring case. The items are ordered by id and paginated with the page and size params.
+            """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of Todo items matching the query", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            [
+                              {
+                                "id": 1,
+                                "description": "Go to the mall",
+                                "status": "NOT_DONE",
+                                "createdAt": "2023-10-17T21:11:10.73867"
+                              }
+                            ]
+                            """)
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "The search query wasn't provided or the page is invalid", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "httpStatus": "BAD_REQUEST",
+                              "message": "The search query wasn't provided",
+                              "description": "uri=/todo-service/todo/search"
+                            }
+                            """)
+                    })
+            })
+    })
+    @GetMapping(path = "todo/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(OK)
+    public ResponseEntity<List<TodoDTO>> searchItems(@RequestParam(name = "q") String query,
+                                                     @RequestParam(name = "page", defaultValue = "0") Integer page,
+                                                     @RequestParam(name = "size") Integer size) {
+        return ResponseEntity.ok(todoService.searchTodos(query, page, size));
+    }
+
+    @Operation(summary = "Export all Todo items", description = """
+            This endpoint streams every Todo item as newline-delimited JSON, one item per line, ordered by id. When the
+            items are sharded, the shards are exported one after the other, each one ordered by id.
+            The optional status param exports only the items with the given status. As on the other read endpoints,
+            the NOT_DONE items past their due date are exported as PAST_DUE. The items are written as they are read
+            from the database, so the export doesn't need to fit in memory.
+            """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream of Todo items", content = {
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = { @ExampleObject(value = """
+                            {"id":1,"description":"Go to the mall","status":"NOT_DONE","createdAt":"2023-10-17T21:11:10.73867"}
+                            {"id":2,"description":"Finish to read my favorite book","status":"DONE","createdAt":"2023-10-17T21:11:30.979739","doneAt":"2023-10-17T21:12:11.267001"}
+                            """)
+                    })
+            })
+    })
+    @GetMapping(path = "todo/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(OK)
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(name = "status", required = false) TodoDTO.Status status,
+                                                             NativeWebRequest request) {
+        todoExportTimeoutInterceptor.register(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> todoExportService.exportTodoItems(status, outputStream));
+    }
+
+    @Operation(summary = "Count the Todo items", description = """
+            This endpoint returns the number of Todo items by stored status and by due date. The counts are kept in memory
+            as the items change and are periodically reconciled with the database, so they may briefly lag behind it.
+            """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todo item counts", content = {
+                    @Content(mediaType = "application/json", examples = { @ExampleObject(value = """
+                            {
+                              "statuses": {
+                                "NOT_DONE": 12,
+                                "DONE": 30,
+                                "PAST_DUE": 2
+                              },
+                              "dueDates": {
+                                "2023-10-17": 2,
+                                "2023-10-20": 5
+                              },
+                              "reconciledAt": "2023-10-17T21:54:11.322878"
+                            }
+                            """)
+                    })
+            })
+    })
+    @GetMapping(path = "todo/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(OK)
+    public ResponseEntity<TodoStatsDTO> getStats() {
+        return ResponseEntity.ok(todoStats.getStats());
     }
 
     @Operation(summary = "Retrieve an existing item", description = """
@@ -244,6 +586,7 @@ public class TodoController {
     @GetMapping(path = "todo/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(OK)
     public ResponseEntity<TodoDTO> getItem(@PathVariable Long id) {
-        return ResponseEntity.ok().body(todoService.getTodoById(id));
+        TodoDTO todo = todoService.getTodoById(id);
+        return ResponseEntity.ok().eTag(TodoETag.encode(todo.version())).body(todo);
     }
 }
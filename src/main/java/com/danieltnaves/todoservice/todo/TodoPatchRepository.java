@@ -0,0 +1,15 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TodoPatchRepository {
+
+    /**
+     * Applies the non-null description, status and dueAt of the patch, and its doneAt, to the item with the given id
+     * in a single UPDATE. The item is only updated while it has the expected version, when one is given, and isn't
+     * matched by the rejection specification. Returns the number of updated items.
+     */
+    int patchTodoItem(Long id, Long expectedVersion, Todo patch, Specification<Todo> rejection);
+
+}
@@ -0,0 +1,57 @@
+package com.danieltnaves.todoservice.todo;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+class TodoPatchRepositoryImpl implements TodoPatchRepository {
+
+    private final EntityManager entityManager;
+
+    TodoPatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int patchTodoItem(Long id, Long expectedVersion, Todo patch, Specification<Todo> rejection) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Todo> update = criteriaBuilder.createCriteriaUpdate(Todo.class);
+        Root<Todo> todo = update.from(Todo.class);
+        if (ObjectUtils.isNotEmpty(patch.getDescription())) {
+            update.set(todo.<String>get("description"), patch.getDescription());
+        }
+        if (ObjectUtils.isNotEmpty(patch.getStatus())) {
+            update.set(todo.<Todo.Status>get("status"), patch.getStatus());
+        }
+        if (ObjectUtils.isNotEmpty(patch.getDueAt())) {
+            update.set(todo.<LocalDateTime>get("dueAt"), patch.getDueAt());
+        }
+        if (ObjectUtils.isNotEmpty(patch.getDoneAt())) {
+            update.set(todo.<LocalDateTime>get("doneAt"), patch.getDoneAt());
+        } else {
+            update.set(todo.<LocalDateTime>get("doneAt"), criteriaBuilder.nullLiteral(LocalDateTime.class));
+        }
+        update.set(todo.<Long>get("version"), criteriaBuilder.sum(todo.<Long>get("version"), 1L));
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(criteriaBuilder.equal(todo.get("id"), id));
+        if (ObjectUtils.isNotEmpty(expectedVersion)) {
+            conditions.add(criteriaBuilder.equal(todo.get("version"), expectedVersion));
+        }
+        if (ObjectUtils.isNotEmpty(rejection)) {
+            conditions.add(criteriaBuilder.not(rejection.toPredicate(todo, null, criteriaBuilder)));
+        }
+        update.where(conditions.toArray(Predicate[]::new));
+        int updatedItems = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updatedItems;
+    }
+
+}
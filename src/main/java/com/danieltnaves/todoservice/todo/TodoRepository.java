@@ -1,20 +1,103 @@
 package com.danieltnaves.todoservice.todo;
 
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.stats.TodoDueDateCount;
+import com.danieltnaves.todoservice.todo.stats.TodoStatusCount;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TodoRepository extends CrudRepository<Todo, Long>, PagingAndSortingRepository<Todo, Long> {
+public interface TodoRepository extends CrudRepository<Todo, Long>, PagingAndSortingRepository<Todo, Long>, TodoPatchRepository {
 
-    @Query("SELECT t FROM Todo t WHERE t.status = :status")
-    Page<Todo> findAllByStatus(@Param("status") Todo.Status status, Pageable pageable);
+    String STREAM_FETCH_SIZE = "500";
+
+    String TODO_DTO_PROJECTION = "SELECT new com.danieltnaves.todoservice.todo.api.TodoDTO(t.id, t.description, t.status, t.createdAt, t.doneAt, t.dueAt, t.version) FROM Todo t";
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " WHERE t.id = :id")
+    Optional<TodoDTO> findTodoDTOById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(value = TODO_DTO_PROJECTION, countQuery = "SELECT count(t) FROM Todo t")
+    Page<TodoDTO> findAllTodoDTOs(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(value = TODO_DTO_PROJECTION + " WHERE t.status = :status", countQuery = "SELECT count(t) FROM Todo t WHERE t.status = :status")
+    Page<TodoDTO> findAllTodoDTOsByStatus(@Param("status") Todo.Status status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " ORDER BY t.id")
+    List<TodoDTO> findTodoDTOsOrderedById(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " WHERE t.status = :status ORDER BY t.id")
+    List<TodoDTO> findTodoDTOsByStatusOrderedById(@Param("status") Todo.Status status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " WHERE t.id IN :ids ORDER BY t.id")
+    List<TodoDTO> findAllTodoDTOsByIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TODO_DTO_PROJECTION + " ORDER BY t.id")
+    Stream<TodoDTO> streamAllTodoDTOs();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.danieltnaves.todoservice.todo.stats.TodoStatusCount(t.status, count(t)) FROM Todo t GROUP BY t.status")
+    List<TodoStatusCount> countByStatus();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.danieltnaves.todoservice.todo.stats.TodoDueDateCount(cast(t.dueAt as LocalDate), count(t)) FROM Todo t "
+            + "WHERE t.dueAt IS NOT NULL GROUP BY cast(t.dueAt as LocalDate)")
+    List<TodoDueDateCount> countByDueDate();
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " WHERE t.id > :after ORDER BY t.id")
+    Slice<TodoDTO> findTodoDTOsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(TODO_DTO_PROJECTION + " WHERE t.status = :status AND t.id > :after ORDER BY t.id")
+    Slice<TodoDTO> findTodoDTOsByStatusAfter(@Param("status") Todo.Status status, @Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.status = :status AND t.dueAt < :dueAt ORDER BY t.id")
+    List<Long> findIdsByStatusAndDueAtBefore(@Param("status") Todo.Status status, @Param("dueAt") LocalDateTime dueAt, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t ORDER BY t.id")
+    Stream<Todo> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t WHERE t.status = :status ORDER BY t.id")
+    Stream<Todo> streamAllByStatus(@Param("status") Todo.Status status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t WHERE t.status IN :statuses ORDER BY t.id")
+    Stream<Todo> streamAllByStatusIn(@Param("statuses") Collection<Todo.Status> statuses);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Todo t SET t.status = :status WHERE t.id = :id")
-    void updateTodoStatusById(@Param("id") Long id, @Param("status") Todo.Status status);
+    @Query("UPDATE Todo t SET t.status = :newStatus, t.version = t.version + 1 WHERE t.id IN :ids AND t.status = :currentStatus")
+    int updateTodoStatusByIds(@Param("ids") Collection<Long> ids, @Param("currentStatus") Todo.Status currentStatus, @Param("newStatus") Todo.Status newStatus);
 }
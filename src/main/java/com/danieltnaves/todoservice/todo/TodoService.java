@@ -1,16 +1,48 @@
 package com.danieltnaves.todoservice.todo;
 
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
+import com.danieltnaves.todoservice.todo.api.TodoCursor;
+import com.danieltnaves.todoservice.todo.api.TodoCursorPage;
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.cache.TodoCache;
+import com.danieltnaves.todoservice.todo.coalescing.SingleFlight;
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.ConcurrentTodoItemUpdateException;
+import com.danieltnaves.todoservice.todo.errors.GenericHttpException;
 import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
 import com.danieltnaves.todoservice.todo.errors.TodoItemNotFoundException;
+import com.danieltnaves.todoservice.todo.errors.TodoItemVersionMismatchException;
 import com.danieltnaves.todoservice.todo.events.TodoEventPublisherService;
-import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRule;
+import com.danieltnaves.todoservice.todo.readmodel.TodoReadModel;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.search.TodoSearchIndex;
+import com.danieltnaves.todoservice.todo.sharding.NewItemShard;
+import com.danieltnaves.todoservice.todo.sharding.ShardKey;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,88 +54,423 @@ public class TodoService {
 
     public static final String DESCRIPTION_NOT_PROVIDED_MESSAGE = "The Todo description wasn't provided";
 
+    public static final String BATCH_DESCRIPTION_NOT_PROVIDED_MESSAGE = "The Todo description wasn't provided for the item at position %d";
+
+    public static final String EMPTY_BATCH_MESSAGE = "At least one Todo item must be provided";
+
+    public static final String BATCH_SIZE_EXCEEDED_MESSAGE = "At most %d Todo items can be sent at once";
+
+    public static final String TODO_ITEM_VERSION_MISMATCH_MESSAGE = "The Todo item with the ID %d doesn't match the version %d anymore";
+
+    public static final String CONCURRENT_TODO_ITEM_UPDATE_MESSAGE = "The Todo item with the ID %d was changed by another request";
+
+    public static final String SEARCH_QUERY_NOT_PROVIDED_MESSAGE = "The search query wasn't provided";
+
+    public static final String PAGE_AND_CURSOR_MESSAGE = "The page and after params can't be sent together";
+
+    public static final String INVALID_PAGE_MESSAGE = "The page must be zero or greater and the size must be greater than zero";
+
+    public static final String CHANGES_NOT_PROVIDED_MESSAGE = "The changes for the Todo item with the ID %d weren't provided";
+
+    public static final String BATCH_ID_NOT_PROVIDED_MESSAGE = "The Todo item ID wasn't provided for the item at position %d";
+
+    /**
+     * How many times a change without an expected version is applied to the latest version of the item when other
+     * changes keep committing first, before the change is answered as a conflict.
+     */
+    private static final int MAX_PATCH_ATTEMPTS = 3;
+
+    private static final Comparator<TodoDTO> TODO_ID_ORDER = Comparator.comparing(TodoDTO::id);
+
     private final TodoRepository todoRepository;
 
     private final TodoEventPublisherService todoEventPublisherService;
 
-    private final List<UpdateTodoItemRule> updateTodoItemRules;
+    private final UpdateTodoItemRuleEngine updateTodoItemRuleEngine;
+
+    private final TodoCache todoCache;
+
+    private final TodoSearchIndex todoSearchIndex;
 
-    public TodoService(TodoRepository todoRepository, TodoEventPublisherService todoEventPublisherService, List<UpdateTodoItemRule> updateTodoItemRules) {
+    private final TodoShards todoShards;
+
+    private final TodoReadModel todoReadModel;
+
+    private final SingleFlight<Long, TodoDTO> todoByIdCalls;
+
+    private final SingleFlight<TodoPageKey, List<TodoDTO>> todoPageCalls;
+
+    private final SingleFlight<TodoCursorKey, TodoCursorPage> todoCursorPageCalls;
+
+    private final boolean publishPastDueEventsOnRead;
+
+    private final int maxBatchSize;
+
+    public TodoService(TodoRepository todoRepository, TodoEventPublisherService todoEventPublisherService, UpdateTodoItemRuleEngine updateTodoItemRuleEngine,
+                       TodoCache todoCache, TodoSearchIndex todoSearchIndex, TodoShards todoShards, TodoReadModel todoReadModel, MeterRegistry meterRegistry,
+                       @Value("${todo.past-due.publish-events-on-read:false}") boolean publishPastDueEventsOnRead,
+                       @Value("${todo.batch.max-size:1000}") int maxBatchSize) {
         this.todoRepository = todoRepository;
         this.todoEventPublisherService = todoEventPublisherService;
-        this.updateTodoItemRules = updateTodoItemRules;
+        this.updateTodoItemRuleEngine = updateTodoItemRuleEngine;
+        this.todoCache = todoCache;
+        this.todoSearchIndex = todoSearchIndex;
+        this.todoShards = todoShards;
+        this.todoReadModel = todoReadModel;
+        this.todoByIdCalls = new SingleFlight<>("getTodoById", meterRegistry);
+        this.todoPageCalls = new SingleFlight<>("getTodosByFilter", meterRegistry);
+        this.todoCursorPageCalls = new SingleFlight<>("getTodosByCursor", meterRegistry);
+        this.publishPastDueEventsOnRead = publishPastDueEventsOnRead;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Transactional
-    public TodoDTO updateTodoItem(Long id, TodoDTO todoDTO) {
-        Todo todo = todoRepository.findById(id).orElseThrow(() -> new TodoItemNotFoundException(String.format(TODO_ITEM_NOT_FOUND_MESSAGE, id)));
-        evaluateUpdateTodoItemRules(todoDTO, todo);
-        updateTodoItem(todoDTO, todo);
-        return TodoDTO.fromTodoToTodoDTO(todoRepository.save(todo));
+    public TodoDTO updateTodoItem(@ShardKey Long id, TodoDTO todoDTO) {
+        return updateTodoItem(id, null, todoDTO);
     }
 
-    private void updateTodoItem(TodoDTO todoDTO, Todo todo) {
-        todo.setStatus(ObjectUtils.isNotEmpty(todoDTO.status()) ? Todo.Status.fromString(todoDTO.status().name()) : todo.getStatus());
-        todo.setDescription(ObjectUtils.isNotEmpty(todoDTO.description()) ? todoDTO.description() : todo.getDescription());
-        todo.setDoneAt(TodoDTO.Status.DONE.equals(todoDTO.status()) ? LocalDateTime.now() : null);
-        todo.setDueAt(ObjectUtils.isNotEmpty(todoDTO.dueAt()) ? todoDTO.dueAt() : todo.getDueAt());
+    /**
+     * Reads the item before changing it so the change event carries its exact previous state, then applies the
+     * change with a conditional update pinned to the version that was read. Without an expected version, a change
+     * that loses the race to another one is read and applied again.
+     */
+    @Transactional
+    public TodoDTO updateTodoItem(@ShardKey Long id, Long expectedVersion, TodoDTO todoDTO) {
+        TodoDTO previousTodo = findTodoItemToUpdate(id);
+        if (ObjectUtils.isNotEmpty(expectedVersion) && !expectedVersion.equals(previousTodo.version())) {
+            throw new TodoItemVersionMismatchException(String.format(TODO_ITEM_VERSION_MISMATCH_MESSAGE, id, expectedVersion));
+        }
+        Todo patch = toTodoItemPatch(todoDTO);
+        Specification<Todo> rejection = updateTodoItemRuleEngine.toSpecification(todoDTO);
+        for (int attempt = 1; todoRepository.patchTodoItem(id, previousTodo.version(), patch, rejection) == 0; attempt++) {
+            previousTodo = findTodoItemToUpdate(id);
+            rejectTodoItemUpdate(expectedVersion, todoDTO, previousTodo, attempt);
+        }
+        TodoDTO updatedTodo = applyTodoItemPatch(previousTodo, patch);
+        todoEventPublisherService.publishTodoChangedEvent(previousTodo, updatedTodo);
+        return updatedTodo;
     }
 
-    private void evaluateUpdateTodoItemRules(TodoDTO todoDTO, Todo todo) {
-        updateTodoItemRules.forEach(updateTodoItemRule -> updateTodoItemRule.evaluate(todoDTO, todo));
+    private TodoDTO findTodoItemToUpdate(Long id) {
+        return todoRepository.findTodoDTOById(id).orElseThrow(() -> new TodoItemNotFoundException(String.format(TODO_ITEM_NOT_FOUND_MESSAGE, id)));
+    }
+
+    /**
+     * Reports why the conditional update changed nothing. Without an expected version, a change that the rules still
+     * accept on the latest version of the item returns normally to be applied to it again, unless it already lost
+     * the race {@link #MAX_PATCH_ATTEMPTS} times.
+     */
+    private void rejectTodoItemUpdate(Long expectedVersion, TodoDTO todoDTO, TodoDTO todo, int attempt) {
+        if (ObjectUtils.isNotEmpty(expectedVersion) && !expectedVersion.equals(todo.version())) {
+            throw new TodoItemVersionMismatchException(String.format(TODO_ITEM_VERSION_MISMATCH_MESSAGE, todo.id(), expectedVersion));
+        }
+        updateTodoItemRuleEngine.evaluate(todoDTO, TodoDTO.fromTodoDTOToTodo(todo));
+        if (ObjectUtils.isNotEmpty(expectedVersion) || attempt >= MAX_PATCH_ATTEMPTS) {
+            throw new ConcurrentTodoItemUpdateException(String.format(CONCURRENT_TODO_ITEM_UPDATE_MESSAGE, todo.id()));
+        }
+    }
+
+    private static Todo toTodoItemPatch(TodoDTO todoDTO) {
+        return Todo.builder()
+                .description(todoDTO.description())
+                .status(ObjectUtils.isNotEmpty(todoDTO.status()) ? todoDTO.status().toTodoStatus() : null)
+                .doneAt(TodoDTO.Status.DONE.equals(todoDTO.status()) ? LocalDateTime.now().truncatedTo(ChronoUnit.MICROS) : null)
+                .dueAt(todoDTO.dueAt())
+                .build();
+    }
+
+    private static TodoDTO applyTodoItemPatch(TodoDTO todo, Todo patch) {
+        return new TodoDTO(todo.id(),
+                ObjectUtils.isNotEmpty(patch.getDescription()) ? patch.getDescription() : todo.description(),
+                ObjectUtils.isNotEmpty(patch.getStatus()) ? TodoDTO.Status.fromTodoStatus(patch.getStatus()) : todo.status(),
+                todo.createdAt(),
+                patch.getDoneAt(),
+                ObjectUtils.isNotEmpty(patch.getDueAt()) ? patch.getDueAt() : todo.dueAt(),
+                ObjectUtils.isNotEmpty(todo.version()) ? todo.version() + 1 : null);
+    }
+
+    /**
+     * Applies each change with the same conditional update as the PATCH endpoint, against the version read at the
+     * start of the batch, so a concurrent change to one item is reported as a 409 for that item only.
+     */
+    @Transactional
+    public List<TodoBatchUpdateResultDTO> updateTodoItems(@ShardKey List<TodoBatchUpdateDTO> todoBatchUpdateDTOs) {
+        validateBatchSize(todoBatchUpdateDTOs, maxBatchSize);
+        Map<Long, TodoDTO> todos = StreamSupport.stream(todoRepository.findAllById(todoBatchUpdateDTOs.stream()
+                        .filter(Objects::nonNull)
+                        .map(TodoBatchUpdateDTO::id)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).spliterator(), false)
+                .map(TodoDTO::fromTodoToTodoDTO)
+                .collect(Collectors.toMap(TodoDTO::id, Function.identity()));
+        List<TodoBatchUpdateResultDTO> results = new ArrayList<>(todoBatchUpdateDTOs.size());
+        for (int position = 0; position < todoBatchUpdateDTOs.size(); position++) {
+            TodoBatchUpdateDTO todoBatchUpdateDTO = todoBatchUpdateDTOs.get(position);
+            if (!hasBatchId(todoBatchUpdateDTO)) {
+                results.add(missingBatchIdResult(position));
+                continue;
+            }
+            TodoDTO previousTodo = todos.get(todoBatchUpdateDTO.id());
+            TodoBatchUpdateResultDTO result = updateTodoItem(todoBatchUpdateDTO, previousTodo);
+            if (HttpStatus.OK.equals(result.httpStatus())) {
+                todos.put(result.todo().id(), result.todo());
+                todoEventPublisherService.publishTodoChangedEvent(previousTodo, result.todo());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private TodoBatchUpdateResultDTO updateTodoItem(TodoBatchUpdateDTO todoBatchUpdateDTO, TodoDTO todo) {
+        if (ObjectUtils.isEmpty(todo)) {
+            return TodoBatchUpdateResultDTO.failed(todoBatchUpdateDTO.id(), HttpStatus.NOT_FOUND, String.format(TODO_ITEM_NOT_FOUND_MESSAGE, todoBatchUpdateDTO.id()));
+        }
+        if (ObjectUtils.isEmpty(todoBatchUpdateDTO.todo())) {
+            return TodoBatchUpdateResultDTO.failed(todo.id(), HttpStatus.BAD_REQUEST, String.format(CHANGES_NOT_PROVIDED_MESSAGE, todo.id()));
+        }
+        try {
+            updateTodoItemRuleEngine.evaluate(todoBatchUpdateDTO.todo(), TodoDTO.fromTodoDTOToTodo(todo));
+        } catch (GenericHttpException exception) {
+            return TodoBatchUpdateResultDTO.failed(todo.id(), exception.getHttpStatus(), exception.getMessage());
+        }
+        Todo patch = toTodoItemPatch(todoBatchUpdateDTO.todo());
+        if (todoRepository.patchTodoItem(todo.id(), todo.version(), patch, updateTodoItemRuleEngine.toSpecification(todoBatchUpdateDTO.todo())) == 0) {
+            return TodoBatchUpdateResultDTO.failed(todo.id(), HttpStatus.CONFLICT, String.format(CONCURRENT_TODO_ITEM_UPDATE_MESSAGE, todo.id()));
+        }
+        return TodoBatchUpdateResultDTO.updated(applyTodoItemPatch(todo, patch));
     }
 
     public List<TodoDTO> getTodosByFilter(boolean onlyPastDueItems, Integer page, Integer size) {
-        return onlyPastDueItems ? findAllNotDoneItems(page, size) : fiendAllItems(page, size);
+        if (todoReadModel.isEnabled()) {
+            return todoReadModel.findPage(onlyPastDueItems, page, size)
+                    .stream()
+                    .map(this::updatePastDueItemStatus)
+                    .toList();
+        }
+        return coalesce(todoPageCalls, new TodoPageKey(onlyPastDueItems, page, size),
+                () -> onlyPastDueItems ? findAllNotDoneItems(page, size) : fiendAllItems(page, size));
+    }
+
+    /**
+     * Coalesces the call with the concurrent calls with the same key, except for the callers pinned to the primary
+     * datasource, which must not share a result read from the replica.
+     */
+    private static <K, V> V coalesce(SingleFlight<K, V> calls, K key, Supplier<V> call) {
+        return PrimaryDataSourceContext.isPinned() ? call.get() : calls.execute(key, call);
     }
 
     private List<TodoDTO> fiendAllItems(Integer page, Integer size) {
-        return todoRepository.findAll(PageRequest.of(page, size))
+        if (todoShards.isSharded()) {
+            return findShardedItems(page, size, limit -> todoRepository.findTodoDTOsOrderedById(PageRequest.of(0, limit)));
+        }
+        return todoRepository.findAllTodoDTOs(PageRequest.of(page, size))
                 .stream()
                 .map(this::updatePastDueItemStatus)
-                .map(TodoDTO::fromTodoToTodoDTO)
                 .toList();
     }
 
     private List<TodoDTO> findAllNotDoneItems(Integer page, Integer size) {
-        return todoRepository.findAllByStatus(Todo.Status.NOT_DONE, PageRequest.of(page, size))
+        if (todoShards.isSharded()) {
+            return findShardedItems(page, size, limit -> todoRepository.findTodoDTOsByStatusOrderedById(Todo.Status.NOT_DONE, PageRequest.of(0, limit)));
+        }
+        return todoRepository.findAllTodoDTOsByStatus(Todo.Status.NOT_DONE, PageRequest.of(page, size))
+                .stream()
+                .map(this::updatePastDueItemStatus)
+                .toList();
+    }
+
+    private List<TodoDTO> findShardedItems(Integer page, Integer size, IntFunction<List<TodoDTO>> findFirstItems) {
+        int offset = Math.multiplyExact(page, size);
+        int limit = Math.addExact(offset, size);
+        List<TodoDTO> todos = TodoShards.merge(todoShards.scatter(() -> findFirstItems.apply(limit)), TODO_ID_ORDER, limit);
+        return todos.subList(Math.min(offset, todos.size()), todos.size())
+                .stream()
+                .map(this::updatePastDueItemStatus)
+                .toList();
+    }
+
+    public TodoCursorPage getTodosByCursor(boolean onlyNotDoneItems, String after, Integer size) {
+        Long lastId = TodoCursor.decode(after);
+        if (todoReadModel.isEnabled()) {
+            return findReadModelTodosAfter(onlyNotDoneItems, lastId, size);
+        }
+        return coalesce(todoCursorPageCalls, new TodoCursorKey(onlyNotDoneItems, lastId, size), () -> findTodosAfter(onlyNotDoneItems, lastId, size));
+    }
+
+    private TodoCursorPage findTodosAfter(boolean onlyNotDoneItems, Long lastId, Integer size) {
+        List<Slice<TodoDTO>> todos = todoShards.scatter(() -> findShardTodosAfter(onlyNotDoneItems, lastId, size));
+        List<TodoDTO> todoDTOs = TodoShards.merge(todos.stream().map(Slice::getContent).toList(), TODO_ID_ORDER, size)
+                .stream()
+                .map(this::updatePastDueItemStatus)
+                .toList();
+        boolean hasNext = todos.stream().anyMatch(Slice::hasNext) || todos.stream().mapToInt(Slice::getNumberOfElements).sum() > todoDTOs.size();
+        String nextCursor = hasNext ? TodoCursor.encode(todoDTOs.get(todoDTOs.size() - 1).id()) : null;
+        return new TodoCursorPage(todoDTOs, nextCursor);
+    }
+
+    private TodoCursorPage findReadModelTodosAfter(boolean onlyNotDoneItems, Long lastId, Integer size) {
+        List<TodoDTO> todos = todoReadModel.findAfter(onlyNotDoneItems, lastId, size + 1);
+        List<TodoDTO> todoDTOs = todos.stream()
+                .limit(size)
+                .map(this::updatePastDueItemStatus)
+                .toList();
+        String nextCursor = todos.size() > size ? TodoCursor.encode(todoDTOs.get(todoDTOs.size() - 1).id()) : null;
+        return new TodoCursorPage(todoDTOs, nextCursor);
+    }
+
+    private Slice<TodoDTO> findShardTodosAfter(boolean onlyNotDoneItems, Long lastId, Integer size) {
+        return onlyNotDoneItems
+                ? todoRepository.findTodoDTOsByStatusAfter(Todo.Status.NOT_DONE, lastId, PageRequest.of(0, size))
+                : todoRepository.findTodoDTOsAfter(lastId, PageRequest.of(0, size));
+    }
+
+    public List<TodoDTO> searchTodos(String query, Integer page, Integer size) {
+        if (StringUtils.isBlank(query)) {
+            throw new InvalidInputException(SEARCH_QUERY_NOT_PROVIDED_MESSAGE);
+        }
+        if (page == null || size == null || page < 0 || size <= 0) {
+            throw new InvalidInputException(INVALID_PAGE_MESSAGE);
+        }
+        long[] ids = todoSearchIndex.search(query);
+        long offset = Math.multiplyExact((long) page, (long) size);
+        if (offset >= ids.length) {
+            return List.of();
+        }
+        int from = (int) offset;
+        if (todoReadModel.isEnabled()) {
+            return todoReadModel.findAllByIds(Arrays.copyOfRange(ids, from, Math.min(from + size, ids.length)))
+                    .stream()
+                    .map(this::updatePastDueItemStatus)
+                    .toList();
+        }
+        List<Long> pageIds = Arrays.stream(ids, from, Math.min(from + size, ids.length)).boxed().toList();
+        return TodoShards.merge(todoShards.scatter(() -> todoRepository.findAllTodoDTOsByIds(pageIds)), TODO_ID_ORDER, pageIds.size())
                 .stream()
                 .map(this::updatePastDueItemStatus)
-                .map(TodoDTO::fromTodoToTodoDTO)
                 .toList();
     }
 
-    private Todo updatePastDueItemStatus(Todo todo) {
+    private TodoDTO updatePastDueItemStatus(TodoDTO todo) {
         if (isUpdatablePastDueItem(todo)) {
-            todoEventPublisherService.publishUpdatePastDueEvent(todo);
-            todo.setStatus(Todo.Status.PAST_DUE);
+            if (publishPastDueEventsOnRead) {
+                todoEventPublisherService.publishUpdatePastDueEvent(todo.id());
+            }
+            return todo.withStatus(TodoDTO.Status.PAST_DUE);
         }
         return todo;
     }
 
-    public TodoDTO getTodoById(Long id) {
-        return TodoDTO.fromTodoToTodoDTO(todoRepository.findById(id)
-                .map(this::updatePastDueItemStatus)
-                .orElseThrow(() -> new TodoItemNotFoundException(String.format(TODO_ITEM_NOT_FOUND_MESSAGE, id))));
+    /**
+     * Reads the item through the cache. The cache is loaded from the primary datasource, so an entry evicted by a change
+     * is never reloaded from a replica that hasn't received the change yet.
+     */
+    public TodoDTO getTodoById(@ShardKey Long id) {
+        if (todoReadModel.isEnabled()) {
+            return updatePastDueItemStatus(todoReadModel.findById(id)
+                    .orElseThrow(() -> new TodoItemNotFoundException(String.format(TODO_ITEM_NOT_FOUND_MESSAGE, id))));
+        }
+        TodoDTO todo = todoCache.getIfPresent(id);
+        if (ObjectUtils.isEmpty(todo)) {
+            todo = todoByIdCalls.execute(id, () -> todoCache.get(id, todoId -> PrimaryDataSourceContext.callOnPrimary(() -> todoRepository.findTodoDTOById(todoId))
+                    .orElseThrow(() -> new TodoItemNotFoundException(String.format(TODO_ITEM_NOT_FOUND_MESSAGE, todoId)))));
+        }
+        return updatePastDueItemStatus(todo);
     }
 
+    @NewItemShard
     public TodoDTO addTodoItem(TodoDTO todoDTO) {
-        if (ObjectUtils.isEmpty(todoDTO) || ObjectUtils.isEmpty(todoDTO.description())) {
+        if (!isValidNewTodoItem(todoDTO)) {
             throw new InvalidInputException(DESCRIPTION_NOT_PROVIDED_MESSAGE);
         }
-        return TodoDTO.fromTodoToTodoDTO(todoRepository.save(Todo.builder()
+        TodoDTO addedTodo = TodoDTO.fromTodoToTodoDTO(todoRepository.save(newTodoItem(todoDTO, LocalDateTime.now())));
+        todoEventPublisherService.publishTodoChangedEvent(addedTodo);
+        return addedTodo;
+    }
+
+    @Transactional
+    @NewItemShard
+    public List<TodoDTO> addTodoItems(List<TodoDTO> todoDTOs) {
+        validateBatchSize(todoDTOs, maxBatchSize);
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Todo> todos = new ArrayList<>(todoDTOs.size());
+        for (int position = 0; position < todoDTOs.size(); position++) {
+            if (!isValidNewTodoItem(todoDTOs.get(position))) {
+                throw new InvalidInputException(String.format(BATCH_DESCRIPTION_NOT_PROVIDED_MESSAGE, position));
+            }
+            todos.add(newTodoItem(todoDTOs.get(position), createdAt));
+        }
+        todoRepository.saveAll(todos);
+        List<TodoDTO> addedTodos = todos.stream().map(TodoDTO::fromTodoToTodoDTO).toList();
+        addedTodos.forEach(todoEventPublisherService::publishTodoChangedEvent);
+        return addedTodos;
+    }
+
+    public static void validateBatchSize(List<?> batch, int maxBatchSize) {
+        if (ObjectUtils.isEmpty(batch)) {
+            throw new InvalidInputException(EMPTY_BATCH_MESSAGE);
+        }
+        if (batch.size() > maxBatchSize) {
+            throw new InvalidInputException(String.format(BATCH_SIZE_EXCEEDED_MESSAGE, maxBatchSize));
+        }
+    }
+
+    public static boolean hasBatchId(TodoBatchUpdateDTO todoBatchUpdateDTO) {
+        return ObjectUtils.isNotEmpty(todoBatchUpdateDTO) && ObjectUtils.isNotEmpty(todoBatchUpdateDTO.id());
+    }
+
+    public static TodoBatchUpdateResultDTO missingBatchIdResult(int position) {
+        return TodoBatchUpdateResultDTO.failed(null, HttpStatus.BAD_REQUEST, String.format(BATCH_ID_NOT_PROVIDED_MESSAGE, position));
+    }
+
+    public static boolean isValidNewTodoItem(TodoDTO todoDTO) {
+        return ObjectUtils.isNotEmpty(todoDTO) && ObjectUtils.isNotEmpty(todoDTO.description());
+    }
+
+    public static Todo newTodoItem(TodoDTO todoDTO, LocalDateTime createdAt) {
+        return Todo.builder()
                 .description(todoDTO.description())
                 .status(Todo.Status.NOT_DONE)
-                .createdAt(LocalDateTime.now())
-                .build()));
+                .createdAt(createdAt)
+                .build();
     }
 
     @Transactional
-    public void updateTodoStatusById(Long id, Todo.Status status) {
-        todoRepository.updateTodoStatusById(id, status);
+    public void updateTodoStatusById(@ShardKey Long id, Todo.Status status) {
+        TodoDTO todo = todoRepository.findTodoDTOById(id).orElse(null);
+        if (ObjectUtils.isEmpty(todo) || status.equals(todo.status().toTodoStatus())) {
+            return;
+        }
+        int updatedItems = todoRepository.updateTodoStatusByIds(List.of(id), todo.status().toTodoStatus(), status);
+        if (updatedItems > 0) {
+            todoEventPublisherService.publishTodoStatusChangedEvent(List.of(id), todo.status().toTodoStatus(), status, updatedItems);
+        }
+    }
+
+    @Transactional
+    public int updatePastDueItems(LocalDateTime dueAt, int chunkSize) {
+        List<Long> pastDueItemIds = todoRepository.findIdsByStatusAndDueAtBefore(Todo.Status.NOT_DONE, dueAt, PageRequest.of(0, chunkSize));
+        if (pastDueItemIds.isEmpty()) {
+            return 0;
+        }
+        int updatedItems = todoRepository.updateTodoStatusByIds(pastDueItemIds, Todo.Status.NOT_DONE, Todo.Status.PAST_DUE);
+        todoEventPublisherService.publishTodoStatusChangedEvent(pastDueItemIds, Todo.Status.NOT_DONE, Todo.Status.PAST_DUE, updatedItems);
+        return updatedItems;
+    }
+
+    private boolean isUpdatablePastDueItem(TodoDTO todo) {
+        return isPastDueItem(todo, LocalDateTime.now());
+    }
+
+    /**
+     * Returns whether the item is still NOT_DONE after its due date, which the read endpoints report as PAST_DUE.
+     */
+    public static boolean isPastDueItem(TodoDTO todo, LocalDateTime now) {
+        return ObjectUtils.isNotEmpty(todo.dueAt()) && now.isAfter(todo.dueAt()) && TodoDTO.Status.NOT_DONE.equals(todo.status());
+    }
+
+    private record TodoPageKey(boolean onlyNotDoneItems, Integer page, Integer size) {
     }
 
-    private boolean isUpdatablePastDueItem(Todo todo) {
-        return ObjectUtils.isNotEmpty(todo.getDueAt()) && LocalDateTime.now().isAfter(todo.getDueAt()) && Todo.Status.NOT_DONE.equals(todo.getStatus());
+    private record TodoCursorKey(boolean onlyNotDoneItems, Long lastId, Integer size) {
     }
 }
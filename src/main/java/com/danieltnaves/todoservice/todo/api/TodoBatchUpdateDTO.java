@@ -0,0 +1,7 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import lombok.Builder;
+
+@Builder
+public record TodoBatchUpdateDTO(Long id, TodoDTO todo) {
+}
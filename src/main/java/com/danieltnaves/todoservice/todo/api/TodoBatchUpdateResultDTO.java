@@ -0,0 +1,17 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TodoBatchUpdateResultDTO(Long id, HttpStatus httpStatus, String message, TodoDTO todo) {
+
+    public static TodoBatchUpdateResultDTO updated(TodoDTO todo) {
+        return new TodoBatchUpdateResultDTO(todo.id(), HttpStatus.OK, null, todo);
+    }
+
+    public static TodoBatchUpdateResultDTO failed(Long id, HttpStatus httpStatus, String message) {
+        return new TodoBatchUpdateResultDTO(id, httpStatus, message, null);
+    }
+
+}
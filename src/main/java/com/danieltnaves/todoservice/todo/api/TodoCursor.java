@@ -0,0 +1,32 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.commons.lang3.ObjectUtils;
+
+public final class TodoCursor {
+
+    public static final long FIRST_ID = 0L;
+
+    private static final String INVALID_CURSOR_MESSAGE = "The cursor %s is not valid";
+
+    private TodoCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static Long decode(String cursor) {
+        if (ObjectUtils.isEmpty(cursor)) {
+            return FIRST_ID;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidInputException(String.format(INVALID_CURSOR_MESSAGE, cursor));
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import java.util.List;
+
+public record TodoCursorPage(List<TodoDTO> todos, String nextCursor) {
+}
@@ -8,11 +8,15 @@ import lombok.Builder;
 
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public record TodoDTO(Long id, String description, Status status, LocalDateTime createdAt, LocalDateTime doneAt, LocalDateTime dueAt) {
+public record TodoDTO(Long id, String description, Status status, LocalDateTime createdAt, LocalDateTime doneAt, LocalDateTime dueAt, Long version) {
 
     public enum Status {
         NOT_DONE, DONE, PAST_DUE;
 
+        private static final Status[] VALUES = values();
+
+        private static final Todo.Status[] TODO_STATUSES = Todo.Status.values();
+
         public static Status fromString(String text) {
             for (Status status : Status.values()) {
                 if (status.name().equalsIgnoreCase(text)) {
@@ -21,14 +25,30 @@ public record TodoDTO(Long id, String description, Status status, LocalDateTime
             }
             throw new IllegalArgumentException(String.format("No constant with text %s found", text));
         }
+
+        public static Status fromTodoStatus(Todo.Status status) {
+            return VALUES[status.ordinal()];
+        }
+
+        public Todo.Status toTodoStatus() {
+            return TODO_STATUSES[ordinal()];
+        }
+    }
+
+    public TodoDTO(Long id, String description, Todo.Status status, LocalDateTime createdAt, LocalDateTime doneAt, LocalDateTime dueAt, Long version) {
+        this(id, description, Status.fromTodoStatus(status), createdAt, doneAt, dueAt, version);
+    }
+
+    public TodoDTO withStatus(Status status) {
+        return new TodoDTO(id, description, status, createdAt, doneAt, dueAt, version);
     }
 
     public static TodoDTO fromTodoToTodoDTO(Todo todo) {
-        return new TodoDTO(todo.getId(), todo.getDescription(), Status.fromString(todo.getStatus().name()), todo.getCreatedAt(), todo.getDoneAt(), todo.getDueAt());
+        return new TodoDTO(todo.getId(), todo.getDescription(), Status.fromTodoStatus(todo.getStatus()), todo.getCreatedAt(), todo.getDoneAt(), todo.getDueAt(), todo.getVersion());
     }
 
     public static Todo fromTodoDTOToTodo(TodoDTO todoDTO) {
-        return new Todo(todoDTO.id(), todoDTO.description, Todo.Status.fromString(todoDTO.status.name()), todoDTO.createdAt(), todoDTO.doneAt(), todoDTO.dueAt());
+        return new Todo(todoDTO.id(), todoDTO.description, todoDTO.status().toTodoStatus(), todoDTO.createdAt(), todoDTO.doneAt(), todoDTO.dueAt(), todoDTO.version());
     }
 }
 
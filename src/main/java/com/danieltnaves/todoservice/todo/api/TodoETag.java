@@ -0,0 +1,36 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
+import org.apache.commons.lang3.ObjectUtils;
+
+public final class TodoETag {
+
+    private static final String ANY = "*";
+
+    private static final String QUOTE = "\"";
+
+    private static final String INVALID_ETAG_MESSAGE = "The entity tag %s is not valid";
+
+    private TodoETag() {
+    }
+
+    public static String encode(Long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    public static Long decode(String ifMatch) {
+        if (ObjectUtils.isEmpty(ifMatch) || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 3 || !eTag.startsWith(QUOTE) || !eTag.endsWith(QUOTE)) {
+            throw new InvalidInputException(String.format(INVALID_ETAG_MESSAGE, ifMatch));
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException exception) {
+            throw new InvalidInputException(String.format(INVALID_ETAG_MESSAGE, ifMatch));
+        }
+    }
+
+}
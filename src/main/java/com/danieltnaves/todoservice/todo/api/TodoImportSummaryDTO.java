@@ -0,0 +1,6 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import java.util.List;
+
+public record TodoImportSummaryDTO(long importedItems, long rejectedItems, List<Long> rejectedLines, long durationMillis, double itemsPerSecond) {
+}
@@ -0,0 +1,9 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+
+public record TodoStatsDTO(Map<TodoDTO.Status, Long> statuses, SortedMap<LocalDate, Long> dueDates, LocalDateTime reconciledAt) {
+}
@@ -0,0 +1,110 @@
+package com.danieltnaves.todoservice.todo.bulk;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.TodoService;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the Todo items as newline-delimited JSON, one item per line. The items are read through a forward-only
+ * cursor and detached right after being written when stored on JPA, so the memory used doesn't grow with the number
+ * of items. The NOT_DONE items past their due date are exported as PAST_DUE, as the read endpoints report them. The
+ * shards are exported one after the other, each one on its own read-only transaction.
+ */
+@Service
+@Slf4j
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter todoWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TodoShards todoShards;
+
+    public TodoExportService(TodoRepository todoRepository, @Nullable EntityManager entityManager, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager, TodoShards todoShards) {
+        this.todoRepository = todoRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.todoWriter = objectMapper.writerFor(TodoDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.todoShards = todoShards;
+    }
+
+    public long exportTodoItems(TodoDTO.Status status, OutputStream outputStream) throws IOException {
+        long exportedItems = 0;
+        LocalDateTime now = LocalDateTime.now();
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (int shard = 0; shard < todoShards.getShardCount(); shard++) {
+                exportedItems += todoShards.callOnShard(shard, () -> transactionTemplate.execute(transactionStatus -> writeTodoItems(status, now, jsonGenerator)));
+            }
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        log.info("Exported {} Todo items", exportedItems);
+        return exportedItems;
+    }
+
+    private long writeTodoItems(TodoDTO.Status status, LocalDateTime now, JsonGenerator jsonGenerator) {
+        long writtenItems = 0;
+        try (Stream<Todo> todos = streamTodoItems(status)) {
+            Iterator<Todo> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                Todo todo = iterator.next();
+                TodoDTO todoDTO = toExportedTodoDTO(todo, now);
+                if (ObjectUtils.isEmpty(status) || status.equals(todoDTO.status())) {
+                    todoWriter.writeValue(jsonGenerator, todoDTO);
+                    jsonGenerator.writeRaw('\n');
+                    writtenItems++;
+                }
+                if (entityManager != null) {
+                    entityManager.detach(todo);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return writtenItems;
+    }
+
+    private static TodoDTO toExportedTodoDTO(Todo todo, LocalDateTime now) {
+        TodoDTO todoDTO = TodoDTO.fromTodoToTodoDTO(todo);
+        return TodoService.isPastDueItem(todoDTO, now) ? todoDTO.withStatus(TodoDTO.Status.PAST_DUE) : todoDTO;
+    }
+
+    private Stream<Todo> streamTodoItems(TodoDTO.Status status) {
+        if (ObjectUtils.isEmpty(status)) {
+            return todoRepository.streamAll();
+        }
+        return TodoDTO.Status.PAST_DUE.equals(status)
+                ? todoRepository.streamAllByStatusIn(List.of(Todo.Status.PAST_DUE, Todo.Status.NOT_DONE))
+                : todoRepository.streamAllByStatus(status.toTodoStatus());
+    }
+}
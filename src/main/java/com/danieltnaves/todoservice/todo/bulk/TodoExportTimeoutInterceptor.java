@@ -0,0 +1,39 @@
+package com.danieltnaves.todoservice.todo.bulk;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+/**
+ * Gives the export response its own asynchronous request timeout, long enough to stream every item, while the other
+ * asynchronous requests keep the default one.
+ */
+@Component
+public class TodoExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    public TodoExportTimeoutInterceptor(@Value("${todo.export.timeout:PT10M}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Applies the export timeout to the asynchronous processing started by the request.
+     */
+    public void register(NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TodoExportTimeoutInterceptor.class.getName(), this);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.danieltnaves.todoservice.todo.bulk;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.TodoService;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoImportSummaryDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.events.TodoEventPublisherService;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads newline-delimited Todo items and inserts the valid ones in chunks, committing and clearing the persistence
+ * context, when the items are stored on JPA, after each chunk. Only the current chunk is kept in memory, and a failure keeps the chunks already committed.
+ * The chunks are stored on the shards in turn.
+ */
+@Service
+@Slf4j
+public class TodoImportService {
+
+    private final TodoRepository todoRepository;
+
+    private final TodoEventPublisherService todoEventPublisherService;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TodoShards todoShards;
+
+    private final ObjectReader todoReader;
+
+    private final int chunkSize;
+
+    private final int maxRejectedLines;
+
+    public TodoImportService(TodoRepository todoRepository, TodoEventPublisherService todoEventPublisherService, @Nullable EntityManager entityManager,
+                             PlatformTransactionManager transactionManager, TodoShards todoShards, ObjectMapper objectMapper,
+                             @Value("${todo.import.chunk-size:1000}") int chunkSize,
+                             @Value("${todo.import.max-rejected-lines:1000}") int maxRejectedLines) {
+        this.todoRepository = todoRepository;
+        this.todoEventPublisherService = todoEventPublisherService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoShards = todoShards;
+        this.todoReader = objectMapper.readerFor(TodoDTO.class);
+        this.chunkSize = chunkSize;
+        this.maxRejectedLines = maxRejectedLines;
+    }
+
+    public TodoImportSummaryDTO importTodoItems(InputStream inputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        long lineNumber = 0;
+        long importedItems = 0;
+        long rejectedItems = 0;
+        List<Long> rejectedLines = new ArrayList<>();
+        List<Todo> chunk = new ArrayList<>(chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            TodoDTO todoDTO = readTodoItem(line, lineNumber);
+            if (!TodoService.isValidNewTodoItem(todoDTO)) {
+                rejectedItems++;
+                if (rejectedLines.size() < maxRejectedLines) {
+                    rejectedLines.add(lineNumber);
+                }
+                continue;
+            }
+            chunk.add(TodoService.newTodoItem(todoDTO, LocalDateTime.now()));
+            if (chunk.size() == chunkSize) {
+                importedItems += saveChunk(chunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedItems += saveChunk(chunk);
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        double itemsPerSecond = durationMillis > 0 ? importedItems * 1000.0 / durationMillis : importedItems;
+        log.info("Imported {} Todo items and rejected {} lines in {} ms", importedItems, rejectedItems, durationMillis);
+        return new TodoImportSummaryDTO(importedItems, rejectedItems, rejectedLines, durationMillis, itemsPerSecond);
+    }
+
+    private TodoDTO readTodoItem(String line, long lineNumber) {
+        try {
+            return todoReader.readValue(line);
+        } catch (JsonProcessingException exception) {
+            log.debug("Rejecting the line {} of the import since it isn't a valid Todo item", lineNumber, exception);
+            return null;
+        }
+    }
+
+    private int saveChunk(List<Todo> chunk) {
+        int savedItems = todoShards.callOnShard(todoShards.nextShard(), () -> transactionTemplate.execute(status -> {
+            todoRepository.saveAll(chunk);
+            if (entityManager != null) {
+                entityManager.flush();
+            }
+            chunk.forEach(todo -> todoEventPublisherService.publishTodoChangedEvent(TodoDTO.fromTodoToTodoDTO(todo)));
+            if (entityManager != null) {
+                entityManager.clear();
+            }
+            return chunk.size();
+        }));
+        chunk.clear();
+        return savedItems;
+    }
+}
@@ -0,0 +1,62 @@
+package com.danieltnaves.todoservice.todo.cache;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.events.TodoStatusChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of Todo items by id. The changed items are written to the cache only after the transaction
+ * that changed them commits, keeping the highest version when two commits race, and the bulk status updates, which
+ * bypass the entity lifecycle, evict the items.
+ */
+@Component
+public class TodoCache {
+
+    private final Cache<Long, TodoDTO> cache;
+
+    public TodoCache(MeterRegistry meterRegistry, @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${todo.cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo");
+    }
+
+    public TodoDTO getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public TodoDTO get(Long id, Function<Long, TodoDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChangedEvent(TodoChangedEvent event) {
+        cache.asMap().merge(event.getTodo().id(), event.getTodo(), TodoCache::latestVersion);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoStatusChangedEvent(TodoStatusChangedEvent event) {
+        cache.invalidateAll(event.getIds());
+    }
+
+    private static TodoDTO latestVersion(TodoDTO cachedTodo, TodoDTO changedTodo) {
+        if (ObjectUtils.isEmpty(cachedTodo.version()) || ObjectUtils.isEmpty(changedTodo.version())) {
+            return changedTodo;
+        }
+        return changedTodo.version() >= cachedTodo.version() ? changedTodo : cachedTodo;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.danieltnaves.todoservice.todo.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key: the first caller runs the call and the callers arriving while it is
+ * running wait for it and share its result or exception. The key is released before the result is published, so a
+ * caller arriving afterwards always runs a new call and never sees a stale result.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    private final Counter executedCalls;
+
+    private final Counter coalescedCalls;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCalls = Counter.builder("todo.single-flight.calls")
+                .description("Calls executed or coalesced with a concurrent call with the same key")
+                .tags("name", name, "coalesced", "false")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("todo.single-flight.calls")
+                .description("Calls executed or coalesced with a concurrent call with the same key")
+                .tags("name", name, "coalesced", "true")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inflightCall = calls.putIfAbsent(key, future);
+        if (inflightCall != null) {
+            coalescedCalls.increment();
+            return join(inflightCall);
+        }
+        executedCalls.increment();
+        try {
+            V value = call.get();
+            calls.remove(key, future);
+            future.complete(value);
+            return value;
+        } catch (Throwable throwable) {
+            calls.remove(key, future);
+            future.completeExceptionally(throwable);
+            throw throwable;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> inflightCall) {
+        try {
+            return inflightCall.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.danieltnaves.todoservice.todo.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA
+}
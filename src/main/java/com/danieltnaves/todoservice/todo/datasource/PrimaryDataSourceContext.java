@@ -0,0 +1,47 @@
+package com.danieltnaves.todoservice.todo.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps the read-only transactions of the current thread on the primary datasource, for the callers that must read
+ * their own writes or can't tolerate the replication lag.
+ */
+public final class PrimaryDataSourceContext {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryDataSourceContext() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static void runOnPrimary(Runnable runnable) {
+        callOnPrimary(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public static <T> T callOnPrimary(Supplier<T> call) {
+        boolean pinned = isPinned();
+        pin();
+        try {
+            return call.get();
+        } finally {
+            if (!pinned) {
+                unpin();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.danieltnaves.todoservice.todo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read-only transactions to the replica and every other connection to the primary. It must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the connection is only
+ * fetched by the first statement, once the transaction has been marked read-only.
+ */
+public class TodoRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<DataSourceRoute, Counter> routedConnections = new EnumMap<>(DataSourceRoute.class);
+
+    public TodoRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primaryDataSource, DataSourceRoute.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routedConnections.put(route, Counter.builder("todo.datasource.connections")
+                    .description("Connections fetched from each datasource route")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryDataSourceContext.isPinned()
+                ? DataSourceRoute.REPLICA
+                : DataSourceRoute.PRIMARY;
+        routedConnections.get(route).increment();
+        return route;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.danieltnaves.todoservice.todo.datasource.configuration;
+
+import com.danieltnaves.todoservice.todo.datasource.TodoRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Splits the database traffic between the primary configured on {@code spring.datasource.*} and a read replica
+ * configured on {@code todo.datasource.replica.*}. Each one has its own Hikari pool, so the list traffic doesn't
+ * compete with the writes for connections.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "todo.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration implements WebMvcConfigurer {
+
+    private final Duration readYourWritesWindow;
+
+    public DataSourceRoutingConfiguration(@Value("${todo.datasource.read-your-writes.window:PT5S}") Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("todo-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${todo.datasource.replica.url}") String url,
+                                              @Value("${todo.datasource.replica.username:}") String username,
+                                              @Value("${todo.datasource.replica.password:}") String password,
+                                              @Value("${todo.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              @Value("${todo.datasource.replica.connection-timeout:PT30S}") Duration connectionTimeout) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("todo-replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry) {
+        log.info("Read-only transactions routed to the replica datasource, read-your-writes window of {}", readYourWritesWindow);
+        return new LazyConnectionDataSourceProxy(new TodoRoutingDataSource(primaryDataSource, replicaDataSource, meterRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesWindow));
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.danieltnaves.todoservice.todo.datasource.configuration;
+
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Keeps the requests of a client on the primary datasource for a window after its last write. Each write request sets
+ * a cookie with the end of the window, and the reads that carry an unexpired cookie aren't sent to the replica.
+ */
+class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PRIMARY_UNTIL_COOKIE = "todo-primary-until";
+
+    private final Duration window;
+
+    ReadYourWritesInterceptor(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            response.addCookie(getPrimaryUntilCookie(request, now + window.toMillis()));
+            PrimaryDataSourceContext.pin();
+        } else if (getPrimaryUntil(request) > now) {
+            PrimaryDataSourceContext.pin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PrimaryDataSourceContext.unpin();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PrimaryDataSourceContext.unpin();
+    }
+
+    private Cookie getPrimaryUntilCookie(HttpServletRequest request, long primaryUntil) {
+        Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, Long.toString(primaryUntil));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+
+    private static long getPrimaryUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, PRIMARY_UNTIL_COOKIE);
+        return cookie == null ? 0 : NumberUtils.toLong(cookie.getValue());
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())
+                && !HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+}
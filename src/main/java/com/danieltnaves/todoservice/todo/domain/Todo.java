@@ -1,17 +1,19 @@
 package com.danieltnaves.todoservice.todo.domain;
 
+import com.danieltnaves.todoservice.todo.sharding.TodoIdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Table(name = "TODO")
@@ -22,7 +24,8 @@ import lombok.NoArgsConstructor;
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "todo_id")
+    @GenericGenerator(name = "todo_id", type = TodoIdGenerator.class)
     @Column(name = "ID")
     private Long id;
 
@@ -44,6 +47,10 @@ public class Todo {
     @Column(name = "DUE_AT")
     private LocalDateTime dueAt;
 
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
     public enum Status {
 
         NOT_DONE, DONE, PAST_DUE;
@@ -0,0 +1,17 @@
+package com.danieltnaves.todoservice.todo.errors;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ConcurrencyLimitExceededException extends GenericHttpException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, false);
+        this.retryAfter = retryAfter;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.danieltnaves.todoservice.todo.errors;
+
+import org.springframework.http.HttpStatus;
+
+public class ConcurrentTodoItemUpdateException extends GenericHttpException {
+
+    public ConcurrentTodoItemUpdateException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+
+}
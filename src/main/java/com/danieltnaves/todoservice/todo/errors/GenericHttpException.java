@@ -12,4 +12,13 @@ public class GenericHttpException extends RuntimeException {
         super(message);
         this.httpStatus = httpStatus;
     }
+
+    /**
+     * Creates an exception without stack trace, for the expected rejections of client input that are reported
+     * through the HTTP status and message only.
+     */
+    protected GenericHttpException(String message, HttpStatus httpStatus, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.httpStatus = httpStatus;
+    }
 }
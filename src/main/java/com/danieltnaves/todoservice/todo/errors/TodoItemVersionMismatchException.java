@@ -0,0 +1,11 @@
+package com.danieltnaves.todoservice.todo.errors;
+
+import org.springframework.http.HttpStatus;
+
+public class TodoItemVersionMismatchException extends GenericHttpException {
+
+    public TodoItemVersionMismatchException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED);
+    }
+
+}
@@ -5,7 +5,7 @@ import org.springframework.http.HttpStatus;
 public class UpdateDoneTodoItemException extends GenericHttpException {
 
     public UpdateDoneTodoItemException(String message) {
-        super(message, HttpStatus.BAD_REQUEST);
+        super(message, HttpStatus.BAD_REQUEST, false);
     }
 
 }
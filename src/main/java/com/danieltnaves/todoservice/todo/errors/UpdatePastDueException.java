@@ -5,7 +5,7 @@ import org.springframework.http.HttpStatus;
 public class UpdatePastDueException extends GenericHttpException {
 
     public UpdatePastDueException(String message) {
-        super(message, HttpStatus.BAD_REQUEST);
+        super(message, HttpStatus.BAD_REQUEST, false);
     }
 
 }
@@ -5,7 +5,7 @@ import org.springframework.http.HttpStatus;
 public class UpdatePastDueTodoItemWithFutureDateException extends GenericHttpException {
 
     public UpdatePastDueTodoItemWithFutureDateException(String message) {
-        super(message, HttpStatus.BAD_REQUEST);
+        super(message, HttpStatus.BAD_REQUEST, false);
     }
 
 }
@@ -1,8 +1,12 @@
 package com.danieltnaves.todoservice.todo.errors.configuration;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
+import com.danieltnaves.todoservice.todo.errors.ConcurrencyLimitExceededException;
 import com.danieltnaves.todoservice.todo.errors.GenericHttpException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -18,6 +22,18 @@ public class ApiResponseEntityExceptionHandler extends ResponseEntityExceptionHa
         return getObjectResponseEntity(exception, request, exception.getHttpStatus());
     }
 
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<Object> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException exception, WebRequest request) {
+        return ResponseEntity.status(exception.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(new ApiError(exception.getHttpStatus(), exception.getMessage(), request.getDescription(false)));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception, WebRequest request) {
+        return getObjectResponseEntity(exception, request, CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGenericException(Exception exception, WebRequest request) {
         return getObjectResponseEntity(exception, request, INTERNAL_SERVER_ERROR);
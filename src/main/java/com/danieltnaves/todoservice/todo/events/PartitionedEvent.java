@@ -0,0 +1,11 @@
+package com.danieltnaves.todoservice.todo.events;
+
+/**
+ * An event handled asynchronously on the worker owning its partition key. Events with the same key are handled in
+ * publication order, and an event is discarded while another one with the same key is still waiting or running.
+ */
+public interface PartitionedEvent {
+
+    Object getPartitionKey();
+
+}
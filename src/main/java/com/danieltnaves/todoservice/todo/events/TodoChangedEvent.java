@@ -0,0 +1,27 @@
+package com.danieltnaves.todoservice.todo.events;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class TodoChangedEvent extends ApplicationEvent {
+
+    /**
+     * The item before the change, or null when the item was created.
+     */
+    private final TodoDTO previousTodo;
+
+    private final TodoDTO todo;
+
+    public TodoChangedEvent(Object source, TodoDTO todo) {
+        this(source, null, todo);
+    }
+
+    public TodoChangedEvent(Object source, TodoDTO previousTodo, TodoDTO todo) {
+        super(source);
+        this.previousTodo = previousTodo;
+        this.todo = todo;
+    }
+
+}
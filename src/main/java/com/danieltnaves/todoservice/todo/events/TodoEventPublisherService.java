@@ -1,8 +1,14 @@
 package com.danieltnaves.todoservice.todo.events;
 
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.outbox.TodoOutbox;
+import com.danieltnaves.todoservice.todo.outbox.TodoOutboxEvent;
+import java.util.Collection;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,13 +17,40 @@ public class TodoEventPublisherService {
 
     private final ApplicationEventPublisher eventPublisher;
 
-    public TodoEventPublisherService(ApplicationEventPublisher eventPublisher) {
+    private final TodoOutbox todoOutbox;
+
+    private final boolean outboxEnabled;
+
+    public TodoEventPublisherService(ApplicationEventPublisher eventPublisher, @Nullable TodoOutbox todoOutbox,
+                                     @Value("${todo.outbox.enabled:true}") boolean outboxEnabled) {
         this.eventPublisher = eventPublisher;
+        this.todoOutbox = todoOutbox;
+        this.outboxEnabled = outboxEnabled;
     }
 
     public void publishUpdatePastDueEvent(Todo todo) {
-        log.info("Publishing an event to update status to PAST_DUE for Todo item id {}", todo.getId());
-        eventPublisher.publishEvent(new UpdatePastDueEvent(this, todo.getId()));
+        publishUpdatePastDueEvent(todo.getId());
+    }
+
+    public void publishUpdatePastDueEvent(Long id) {
+        log.info("Publishing an event to update status to PAST_DUE for Todo item id {}", id);
+        if (outboxEnabled) {
+            todoOutbox.add(TodoOutboxEvent.Type.UPDATE_PAST_DUE, id);
+            return;
+        }
+        eventPublisher.publishEvent(new UpdatePastDueEvent(this, id));
+    }
+
+    public void publishTodoChangedEvent(TodoDTO todo) {
+        eventPublisher.publishEvent(new TodoChangedEvent(this, todo));
+    }
+
+    public void publishTodoChangedEvent(TodoDTO previousTodo, TodoDTO todo) {
+        eventPublisher.publishEvent(new TodoChangedEvent(this, previousTodo, todo));
+    }
+
+    public void publishTodoStatusChangedEvent(Collection<Long> ids, Todo.Status previousStatus, Todo.Status status, int changedItems) {
+        eventPublisher.publishEvent(new TodoStatusChangedEvent(this, ids, previousStatus, status, changedItems));
     }
 
 }
@@ -0,0 +1,31 @@
+package com.danieltnaves.todoservice.todo.events;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class TodoStatusChangedEvent extends ApplicationEvent {
+
+    private final Collection<Long> ids;
+
+    private final Todo.Status previousStatus;
+
+    private final Todo.Status status;
+
+    /**
+     * How many of the ids were actually changed from the previous status, which can be fewer than the ids when other
+     * requests changed some of them first.
+     */
+    private final int changedItems;
+
+    public TodoStatusChangedEvent(Object source, Collection<Long> ids, Todo.Status previousStatus, Todo.Status status, int changedItems) {
+        super(source);
+        this.ids = ids;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.changedItems = changedItems;
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.danieltnaves.todoservice.todo.events;
 
+import java.time.Clock;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class UpdatePastDueEvent extends ApplicationEvent {
+public class UpdatePastDueEvent extends ApplicationEvent implements PartitionedEvent {
 
     private final Long id;
 
@@ -13,4 +14,14 @@ public class UpdatePastDueEvent extends ApplicationEvent {
         this.id = id;
     }
 
+    public UpdatePastDueEvent(Object source, Long id, Clock clock) {
+        super(source, clock);
+        this.id = id;
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return id;
+    }
+
 }
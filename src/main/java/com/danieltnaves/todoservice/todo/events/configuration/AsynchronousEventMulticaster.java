@@ -1,19 +1,28 @@
 package com.danieltnaves.todoservice.todo.events.configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 @Configuration
 public class AsynchronousEventMulticaster {
 
+    @Bean(destroyMethod = "shutdown")
+    public PartitionedEventExecutor partitionedEventExecutor(@Value("${todo.events.executor.partitions:4}") int partitions,
+                                                             @Value("${todo.events.executor.queue-capacity:1000}") int queueCapacity,
+                                                             @Value("${todo.events.executor.overflow-policy:BLOCK}") PartitionedEventExecutor.OverflowPolicy overflowPolicy,
+                                                             @Value("${todo.events.executor.block-timeout:PT1S}") Duration blockTimeout,
+                                                             @Value("${todo.virtual-threads.enabled:false}") boolean virtualThreadsEnabled) {
+        ThreadFactory threadFactory = virtualThreadsEnabled ? Thread.ofVirtual().name("todo-events-", 0).factory() : new CustomizableThreadFactory("todo-events-");
+        return new PartitionedEventExecutor(partitions, queueCapacity, overflowPolicy, blockTimeout, threadFactory);
+    }
+
     @Bean(name = "applicationEventMulticaster")
-    public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-        SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
-        return eventMulticaster;
+    public PartitionedApplicationEventMulticaster simpleApplicationEventMulticaster(PartitionedEventExecutor partitionedEventExecutor) {
+        return new PartitionedApplicationEventMulticaster(partitionedEventExecutor);
     }
 
 }
@@ -0,0 +1,35 @@
+package com.danieltnaves.todoservice.todo.events.configuration;
+
+import com.danieltnaves.todoservice.todo.events.PartitionedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+public class PartitionedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final PartitionedEventExecutor partitionedEventExecutor;
+
+    public PartitionedApplicationEventMulticaster(PartitionedEventExecutor partitionedEventExecutor) {
+        this.partitionedEventExecutor = partitionedEventExecutor;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+        if (event instanceof PartitionedEvent partitionedEvent) {
+            ResolvableType type = eventType != null ? eventType : ResolvableType.forInstance(event);
+            partitionedEventExecutor.execute(partitionedEvent.getPartitionKey(), () ->
+                    getApplicationListeners(event, type).forEach(listener -> invokeListener(listener, event)));
+            return;
+        }
+        super.multicastEvent(event, eventType);
+    }
+
+    /**
+     * Invokes the listeners of the event on the calling thread, rethrowing the first exception raised by them.
+     */
+    public void multicastEventNow(ApplicationEvent event) {
+        super.multicastEvent(event, ResolvableType.forInstance(event));
+    }
+
+}
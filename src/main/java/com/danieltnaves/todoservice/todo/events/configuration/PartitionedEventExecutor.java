@@ -0,0 +1,143 @@
+package com.danieltnaves.todoservice.todo.events.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Runs tasks on a fixed set of single threaded workers with bounded queues. A task is always assigned to the
+ * worker owning the hash of its key, so tasks with the same key run in submission order, and a task is
+ * discarded while another task with the same key is still queued or running.
+ */
+@Slf4j
+public class PartitionedEventExecutor implements MeterBinder {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, CALLER_RUNS
+    }
+
+    private final ThreadPoolExecutor[] workers;
+
+    private final Set<Object> inFlightKeys = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder droppedTasks = new LongAdder();
+
+    private final LongAdder deduplicatedTasks = new LongAdder();
+
+    private volatile Timer handlerLatency;
+
+    public PartitionedEventExecutor(int partitions, int queueCapacity, OverflowPolicy overflowPolicy, Duration blockTimeout) {
+        this(partitions, queueCapacity, overflowPolicy, blockTimeout, new CustomizableThreadFactory("todo-events-"));
+    }
+
+    public PartitionedEventExecutor(int partitions, int queueCapacity, OverflowPolicy overflowPolicy, Duration blockTimeout, ThreadFactory threadFactory) {
+        this.workers = new ThreadPoolExecutor[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            workers[partition] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                    getRejectedExecutionHandler(overflowPolicy, blockTimeout));
+        }
+    }
+
+    public boolean execute(Object key, Runnable task) {
+        if (!inFlightKeys.add(key)) {
+            deduplicatedTasks.increment();
+            return false;
+        }
+        try {
+            workers[Math.floorMod(key.hashCode(), workers.length)].execute(() -> runTask(key, task));
+            return true;
+        } catch (RejectedExecutionException exception) {
+            inFlightKeys.remove(key);
+            droppedTasks.increment();
+            log.warn("The event with key {} was dropped because its partition queue is full", key);
+            return false;
+        }
+    }
+
+    private void runTask(Object key, Runnable task) {
+        long startTime = System.nanoTime();
+        try {
+            task.run();
+        } catch (RuntimeException exception) {
+            log.error("An exception has been raised while handling the event with key {}. Message: {}", key, exception.getMessage());
+        } finally {
+            inFlightKeys.remove(key);
+            Timer timer = handlerLatency;
+            if (timer != null) {
+                timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return Arrays.stream(workers).mapToInt(worker -> worker.getQueue().size()).sum();
+    }
+
+    public int getInFlightTasks() {
+        return inFlightKeys.size();
+    }
+
+    public long getDroppedTasks() {
+        return droppedTasks.sum();
+    }
+
+    public long getDeduplicatedTasks() {
+        return deduplicatedTasks.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.events.executor.queue.depth", this, PartitionedEventExecutor::getQueueDepth)
+                .description("Events waiting on the partition queues")
+                .register(registry);
+        Gauge.builder("todo.events.executor.in-flight", this, PartitionedEventExecutor::getInFlightTasks)
+                .description("Events queued or being handled")
+                .register(registry);
+        FunctionCounter.builder("todo.events.executor.dropped", this, PartitionedEventExecutor::getDroppedTasks)
+                .description("Events dropped because their partition queue was full")
+                .register(registry);
+        FunctionCounter.builder("todo.events.executor.deduplicated", this, PartitionedEventExecutor::getDeduplicatedTasks)
+                .description("Events discarded because an event with the same key was already in flight")
+                .register(registry);
+        handlerLatency = Timer.builder("todo.events.executor.handler.latency")
+                .description("Time spent handling each event")
+                .register(registry);
+    }
+
+    public void shutdown() {
+        Arrays.stream(workers).forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private static RejectedExecutionHandler getRejectedExecutionHandler(OverflowPolicy overflowPolicy, Duration blockTimeout) {
+        return switch (overflowPolicy) {
+            case BLOCK -> (task, executor) -> {
+                try {
+                    if (executor.isShutdown() || !executor.getQueue().offer(task, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        throw new RejectedExecutionException("The partition queue is still full after " + blockTimeout);
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for the partition queue", exception);
+                }
+            };
+            case DROP -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        };
+    }
+
+}
@@ -3,6 +3,10 @@ package com.danieltnaves.todoservice.todo.events.configuration;
 import com.danieltnaves.todoservice.todo.TodoService;
 import com.danieltnaves.todoservice.todo.domain.Todo;
 import com.danieltnaves.todoservice.todo.events.UpdatePastDueEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
@@ -13,14 +17,30 @@ public class TodoEventListener {
 
     private final TodoService todoService;
 
-    public TodoEventListener(TodoService todoService) {
+    private final Timer updatePastDueEventLag;
+
+    private final Counter updatePastDueEventFailures;
+
+    public TodoEventListener(TodoService todoService, MeterRegistry meterRegistry) {
         this.todoService = todoService;
+        this.updatePastDueEventLag = Timer.builder("todo.events.update-past-due.lag")
+                .description("Time between publishing an update past due event and starting to handle it")
+                .register(meterRegistry);
+        this.updatePastDueEventFailures = Counter.builder("todo.events.update-past-due.failures")
+                .description("Update past due events whose handling failed")
+                .register(meterRegistry);
     }
 
     @EventListener
     public void onUpdatePastDueEvent(UpdatePastDueEvent event) {
+        updatePastDueEventLag.record(Math.max(0, System.currentTimeMillis() - event.getTimestamp()), TimeUnit.MILLISECONDS);
         log.info("Event received for past due item {}", event.getId());
-        todoService.updateTodoStatusById(event.getId(), Todo.Status.PAST_DUE);
+        try {
+            todoService.updateTodoStatusById(event.getId(), Todo.Status.PAST_DUE);
+        } catch (RuntimeException exception) {
+            updatePastDueEventFailures.increment();
+            throw exception;
+        }
         log.info("Todo item {} updated via event with status PAST_DUE", event.getId());
     }
 }
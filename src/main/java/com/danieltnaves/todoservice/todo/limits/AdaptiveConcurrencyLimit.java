@@ -0,0 +1,96 @@
+package com.danieltnaves.todoservice.todo.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the latency of the requests, in the style of the gradient algorithm. The latency of
+ * recent requests is compared to a slowly moving average: while they match, the limit grows by about its square root,
+ * and when the recent requests get slower than the tolerance allows, the limit shrinks in proportion to the slowdown.
+ * Requests over the limit are rejected instead of being queued.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private static final int LONG_WINDOW = 600;
+
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile int limit;
+
+    private double estimatedLimit;
+
+    private double longRtt;
+
+    private double shortRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Returns the number of requests in flight including this one, or zero when the limit was reached.
+     */
+    public int tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit) {
+                return 0;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return current + 1;
+    }
+
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    public void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        onSample(rttNanos, inflightAtStart);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+        if (longRtt > 2 * shortRtt) {
+            longRtt = longRtt * 0.95;
+        }
+        if (inflightAtStart < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+}
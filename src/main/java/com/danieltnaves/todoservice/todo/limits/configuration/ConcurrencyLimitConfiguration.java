@@ -0,0 +1,44 @@
+package com.danieltnaves.todoservice.todo.limits.configuration;
+
+import com.danieltnaves.todoservice.todo.limits.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Sheds the requests to the Todo endpoints over their adaptive concurrency limits with 503 and Retry-After, so a slow
+ * database makes the service reject the excess quickly instead of piling up requests on Tomcat.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "todo.limits.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    public ConcurrencyLimitConfiguration(MeterRegistry meterRegistry,
+                                         @Value("${todo.limits.read.initial-limit:50}") int readInitialLimit,
+                                         @Value("${todo.limits.read.min-limit:5}") int readMinLimit,
+                                         @Value("${todo.limits.read.max-limit:500}") int readMaxLimit,
+                                         @Value("${todo.limits.write.initial-limit:20}") int writeInitialLimit,
+                                         @Value("${todo.limits.write.min-limit:2}") int writeMinLimit,
+                                         @Value("${todo.limits.write.max-limit:200}") int writeMaxLimit,
+                                         @Value("${todo.limits.retry-after:PT1S}") Duration retryAfter) {
+        this.concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(meterRegistry,
+                () -> new AdaptiveConcurrencyLimit(readInitialLimit, readMinLimit, readMaxLimit),
+                () -> new AdaptiveConcurrencyLimit(writeInitialLimit, writeMinLimit, writeMaxLimit),
+                retryAfter);
+        log.info("Todo endpoints limited to adaptive concurrency limits starting at {} reads and {} writes", readInitialLimit, writeInitialLimit);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.danieltnaves.todoservice.todo.limits.configuration;
+
+import com.danieltnaves.todoservice.todo.TodoController;
+import com.danieltnaves.todoservice.todo.errors.ConcurrencyLimitExceededException;
+import com.danieltnaves.todoservice.todo.limits.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies an {@link AdaptiveConcurrencyLimit} to each {@link TodoController} endpoint, with separate settings for the
+ * reads and the writes. Only the requests completed without a server error feed the limit, and the asynchronous
+ * requests, like the export, hold a permit until they complete without feeding it.
+ */
+class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    static final String CONCURRENCY_LIMIT_EXCEEDED_MESSAGE = "Too many concurrent requests to %s %s";
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrentMap<String, EndpointLimit> limits = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Supplier<AdaptiveConcurrencyLimit> readLimits;
+
+    private final Supplier<AdaptiveConcurrencyLimit> writeLimits;
+
+    private final Duration retryAfter;
+
+    ConcurrencyLimitInterceptor(MeterRegistry meterRegistry, Supplier<AdaptiveConcurrencyLimit> readLimits,
+                                Supplier<AdaptiveConcurrencyLimit> writeLimits, Duration retryAfter) {
+        this.meterRegistry = meterRegistry;
+        this.readLimits = readLimits;
+        this.writeLimits = writeLimits;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !TodoController.class.isAssignableFrom(handlerMethod.getBeanType())
+                || !DispatcherType.REQUEST.equals(request.getDispatcherType())) {
+            return true;
+        }
+        String uri = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        EndpointLimit endpointLimit = limits.computeIfAbsent(request.getMethod() + " " + uri, endpoint -> newEndpointLimit(request.getMethod(), uri));
+        int inflight = endpointLimit.limit().tryAcquire();
+        if (inflight == 0) {
+            endpointLimit.rejections().increment();
+            throw new ConcurrencyLimitExceededException(String.format(CONCURRENCY_LIMIT_EXCEEDED_MESSAGE, request.getMethod(), uri), retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(endpointLimit.limit(), System.nanoTime(), inflight));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (ObjectUtils.isEmpty(permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        if (ObjectUtils.isEmpty(exception) && response.getStatus() < 500 && DispatcherType.REQUEST.equals(request.getDispatcherType())) {
+            permit.limit().release(System.nanoTime() - permit.startedAt(), permit.inflight());
+        } else {
+            permit.limit().release();
+        }
+    }
+
+    private EndpointLimit newEndpointLimit(String method, String uri) {
+        AdaptiveConcurrencyLimit limit = HttpMethod.GET.matches(method) ? readLimits.get() : writeLimits.get();
+        Tags tags = Tags.of("method", method, "uri", uri);
+        Gauge.builder("todo.limits.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current concurrency limit of the endpoint")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("todo.limits.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                .description("Requests being handled by the endpoint")
+                .tags(tags)
+                .register(meterRegistry);
+        Counter rejections = Counter.builder("todo.limits.rejections")
+                .description("Requests rejected because the endpoint reached its concurrency limit")
+                .tags(tags)
+                .register(meterRegistry);
+        return new EndpointLimit(limit, rejections);
+    }
+
+    private record EndpointLimit(AdaptiveConcurrencyLimit limit, Counter rejections) {
+    }
+
+    private record Permit(AdaptiveConcurrencyLimit limit, long startedAt, int inflight) {
+    }
+
+}
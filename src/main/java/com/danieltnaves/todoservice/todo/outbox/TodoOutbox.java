@@ -0,0 +1,106 @@
+package com.danieltnaves.todoservice.todo.outbox;
+
+import com.danieltnaves.todoservice.todo.storage.ConditionalOnJpaStorage;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The TODO_OUTBOX table. An event is inserted on the transaction of the caller, so it is only relayed if that
+ * transaction commits. Callers on a read-only transaction write the event on a new one. An event that is already
+ * pending for the same item isn't inserted again, so repeated requests for the same change are relayed once.
+ */
+@Repository
+@Slf4j
+@ConditionalOnJpaStorage
+public class TodoOutbox {
+
+    private static final String INSERT_EVENT_IF_ABSENT = "MERGE INTO TODO_OUTBOX PENDING_EVENT " +
+            "USING (VALUES (CAST(:type AS VARCHAR(64)), CAST(:aggregateId AS BIGINT), CAST(:createdAt AS TIMESTAMP(6)))) NEW_EVENT (EVENT_TYPE, AGGREGATE_ID, CREATED_AT) " +
+            "ON PENDING_EVENT.EVENT_TYPE = NEW_EVENT.EVENT_TYPE AND PENDING_EVENT.AGGREGATE_ID = NEW_EVENT.AGGREGATE_ID " +
+            "WHEN NOT MATCHED THEN INSERT (EVENT_TYPE, AGGREGATE_ID, CREATED_AT) VALUES (NEW_EVENT.EVENT_TYPE, NEW_EVENT.AGGREGATE_ID, NEW_EVENT.CREATED_AT)";
+
+    private static final String SELECT_PENDING_EVENTS = "SELECT ID, EVENT_TYPE, AGGREGATE_ID, CREATED_AT, ATTEMPTS FROM TODO_OUTBOX " +
+            "WHERE ATTEMPTS < :maxAttempts ORDER BY ID FETCH FIRST :limit ROWS ONLY";
+
+    private static final String DELETE_EVENTS = "DELETE FROM TODO_OUTBOX WHERE ID IN (:ids)";
+
+    private static final String INCREMENT_ATTEMPTS = "UPDATE TODO_OUTBOX SET ATTEMPTS = ATTEMPTS + 1 WHERE ID IN (:ids)";
+
+    private static final String DELETE_EXHAUSTED_EVENTS = "DELETE FROM TODO_OUTBOX WHERE ATTEMPTS >= :maxAttempts";
+
+    private static final String SELECT_BACKLOG = "SELECT COUNT(ID), MIN(CREATED_AT) FROM TODO_OUTBOX";
+
+    private static final RowMapper<TodoOutboxEvent> EVENT_ROW_MAPPER = (resultSet, rowNum) -> new TodoOutboxEvent(
+            resultSet.getLong("ID"),
+            TodoOutboxEvent.Type.valueOf(resultSet.getString("EVENT_TYPE")),
+            resultSet.getLong("AGGREGATE_ID"),
+            resultSet.getTimestamp("CREATED_AT").toLocalDateTime(),
+            resultSet.getInt("ATTEMPTS"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate newTransactionTemplate;
+
+    public TodoOutbox(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void add(TodoOutboxEvent.Type type, Long aggregateId) {
+        Map<String, Object> parameters = Map.of("type", type.name(), "aggregateId", aggregateId, "createdAt", Timestamp.valueOf(LocalDateTime.now()));
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            newTransactionTemplate.executeWithoutResult(transactionStatus -> insertEventIfAbsent(parameters));
+            return;
+        }
+        insertEventIfAbsent(parameters);
+    }
+
+    /**
+     * A concurrent transaction can insert the same event between the check and the insert of the MERGE. Its event is
+     * then the pending one.
+     */
+    private void insertEventIfAbsent(Map<String, Object> parameters) {
+        try {
+            jdbcTemplate.update(INSERT_EVENT_IF_ABSENT, parameters);
+        } catch (DuplicateKeyException exception) {
+            log.debug("The outbox event {} of aggregate {} is already pending", parameters.get("type"), parameters.get("aggregateId"));
+        }
+    }
+
+    public List<TodoOutboxEvent> findPendingEvents(int limit, int maxAttempts) {
+        return jdbcTemplate.query(SELECT_PENDING_EVENTS, Map.of("limit", limit, "maxAttempts", maxAttempts), EVENT_ROW_MAPPER);
+    }
+
+    public int deleteEvents(Collection<Long> ids) {
+        return ids.isEmpty() ? 0 : jdbcTemplate.update(DELETE_EVENTS, Map.of("ids", ids));
+    }
+
+    public int incrementAttempts(Collection<Long> ids) {
+        return ids.isEmpty() ? 0 : jdbcTemplate.update(INCREMENT_ATTEMPTS, Map.of("ids", ids));
+    }
+
+    public int deleteExhaustedEvents(int maxAttempts) {
+        return jdbcTemplate.update(DELETE_EXHAUSTED_EVENTS, Map.of("maxAttempts", maxAttempts));
+    }
+
+    public TodoOutboxBacklog getBacklog() {
+        return jdbcTemplate.queryForObject(SELECT_BACKLOG, Map.of(), (resultSet, rowNum) -> {
+            Timestamp oldestCreatedAt = resultSet.getTimestamp(2);
+            return new TodoOutboxBacklog(resultSet.getLong(1), oldestCreatedAt == null ? null : oldestCreatedAt.toLocalDateTime());
+        });
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.danieltnaves.todoservice.todo.outbox;
+
+import java.time.LocalDateTime;
+
+public record TodoOutboxBacklog(long pendingEvents, LocalDateTime oldestCreatedAt) {
+
+    public static final TodoOutboxBacklog EMPTY = new TodoOutboxBacklog(0, null);
+
+    public TodoOutboxBacklog add(TodoOutboxBacklog other) {
+        LocalDateTime oldest = oldestCreatedAt == null || (other.oldestCreatedAt != null && other.oldestCreatedAt.isBefore(oldestCreatedAt))
+                ? other.oldestCreatedAt
+                : oldestCreatedAt;
+        return new TodoOutboxBacklog(pendingEvents + other.pendingEvents, oldest);
+    }
+
+}
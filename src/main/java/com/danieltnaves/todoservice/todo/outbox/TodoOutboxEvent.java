@@ -0,0 +1,11 @@
+package com.danieltnaves.todoservice.todo.outbox;
+
+import java.time.LocalDateTime;
+
+public record TodoOutboxEvent(Long id, Type type, Long aggregateId, LocalDateTime createdAt, int attempts) {
+
+    public enum Type {
+        UPDATE_PAST_DUE
+    }
+
+}
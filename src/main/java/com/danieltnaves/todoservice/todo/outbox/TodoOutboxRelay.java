@@ -0,0 +1,209 @@
+package com.danieltnaves.todoservice.todo.outbox;
+
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import com.danieltnaves.todoservice.todo.events.UpdatePastDueEvent;
+import com.danieltnaves.todoservice.todo.events.configuration.PartitionedApplicationEventMulticaster;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import com.danieltnaves.todoservice.todo.storage.ConditionalOnJpaStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays the {@link TodoOutbox} events to their listeners in batches of batch-size rows. The events of a batch are
+ * handled by at most parallelism threads, one event per aggregate, and the rows are deleted once every event of the
+ * batch was handled, so an event is delivered at least once. The rows of a failed event are retried on the next run
+ * until max-attempts is reached. Each run drains the outbox of every shard while the batches come back full.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "todo.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnJpaStorage
+public class TodoOutboxRelay {
+
+    private final TodoOutbox todoOutbox;
+
+    private final PartitionedApplicationEventMulticaster eventMulticaster;
+
+    private final TodoShards todoShards;
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final ExecutorService executorService;
+
+    private final AtomicReference<TodoOutboxBacklog> backlog = new AtomicReference<>(TodoOutboxBacklog.EMPTY);
+
+    private final Timer batchDuration;
+
+    private final Timer lag;
+
+    private final Counter dispatchedEvents;
+
+    private final Counter failedEvents;
+
+    private final Counter discardedEvents;
+
+    public TodoOutboxRelay(TodoOutbox todoOutbox, PartitionedApplicationEventMulticaster eventMulticaster, TodoShards todoShards, MeterRegistry meterRegistry,
+                           @Value("${todo.outbox.relay.batch-size:500}") int batchSize,
+                           @Value("${todo.outbox.relay.parallelism:8}") int parallelism,
+                           @Value("${todo.outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.todoOutbox = todoOutbox;
+        this.eventMulticaster = eventMulticaster;
+        this.todoShards = todoShards;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.executorService = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("todo-outbox-", 0).factory());
+        this.batchDuration = Timer.builder("todo.outbox.relay.batch.duration")
+                .description("Time spent relaying each batch of outbox events")
+                .register(meterRegistry);
+        this.lag = Timer.builder("todo.outbox.lag")
+                .description("Time between writing an outbox event and handling it")
+                .register(meterRegistry);
+        this.dispatchedEvents = eventsCounter(meterRegistry, "dispatched", "Outbox events handled by their listeners");
+        this.failedEvents = eventsCounter(meterRegistry, "failed", "Outbox events whose handling failed and will be retried");
+        this.discardedEvents = eventsCounter(meterRegistry, "discarded", "Outbox events deleted after failing max-attempts times");
+        Gauge.builder("todo.outbox.pending", backlog, currentBacklog -> currentBacklog.get().pendingEvents())
+                .description("Outbox events left after the last relay run")
+                .register(meterRegistry);
+        Gauge.builder("todo.outbox.oldest.age", backlog, currentBacklog -> getOldestEventAgeSeconds(currentBacklog.get()))
+                .description("Age of the oldest outbox event left after the last relay run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("todo.outbox.relay.events")
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static double getOldestEventAgeSeconds(TodoOutboxBacklog backlog) {
+        return backlog.oldestCreatedAt() == null ? 0 : Math.max(0, Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now()).toMillis() / 1000.0);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.outbox.relay.interval:PT1S}")
+    public void relay() {
+        TodoOutboxBacklog currentBacklog = TodoOutboxBacklog.EMPTY;
+        for (int shard = 0; shard < todoShards.getShardCount(); shard++) {
+            currentBacklog = currentBacklog.add(todoShards.callOnShard(shard, this::relayShard));
+        }
+        backlog.set(currentBacklog);
+    }
+
+    private TodoOutboxBacklog relayShard() {
+        AtomicReference<TodoOutboxBacklog> shardBacklog = new AtomicReference<>();
+        PrimaryDataSourceContext.runOnPrimary(() -> {
+            boolean drained;
+            do {
+                Timer.Sample sample = Timer.start();
+                drained = relayBatch();
+                sample.stop(batchDuration);
+            } while (!drained);
+            shardBacklog.set(todoOutbox.getBacklog());
+        });
+        return shardBacklog.get();
+    }
+
+    /**
+     * Returns whether the relay should stop for this run, either because the batch was not full or because one of
+     * its events failed.
+     */
+    private boolean relayBatch() {
+        List<TodoOutboxEvent> events = todoOutbox.findPendingEvents(batchSize, maxAttempts);
+        if (events.isEmpty()) {
+            return true;
+        }
+        Map<AggregateKey, List<TodoOutboxEvent>> eventsByAggregate = new LinkedHashMap<>();
+        events.forEach(event -> eventsByAggregate.computeIfAbsent(new AggregateKey(event.type(), event.aggregateId()), key -> new ArrayList<>()).add(event));
+        List<Callable<Boolean>> dispatches = eventsByAggregate.values().stream()
+                .map(aggregateEvents -> (Callable<Boolean>) () -> dispatch(aggregateEvents.get(0)))
+                .toList();
+        List<Long> dispatchedIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        List<Future<Boolean>> results = invokeAll(dispatches);
+        int index = 0;
+        for (List<TodoOutboxEvent> aggregateEvents : eventsByAggregate.values()) {
+            List<Long> ids = isDispatched(results.get(index++)) ? dispatchedIds : failedIds;
+            aggregateEvents.forEach(event -> ids.add(event.id()));
+        }
+        todoOutbox.deleteEvents(dispatchedIds);
+        dispatchedEvents.increment(dispatchedIds.size());
+        if (!failedIds.isEmpty()) {
+            todoOutbox.incrementAttempts(failedIds);
+            failedEvents.increment(failedIds.size());
+            int discarded = todoOutbox.deleteExhaustedEvents(maxAttempts);
+            if (discarded > 0) {
+                discardedEvents.increment(discarded);
+                log.error("{} outbox events were discarded after failing {} times", discarded, maxAttempts);
+            }
+            return true;
+        }
+        return events.size() < batchSize;
+    }
+
+    private boolean dispatch(TodoOutboxEvent event) {
+        try {
+            eventMulticaster.multicastEventNow(toApplicationEvent(event));
+            lag.record(Duration.between(event.createdAt(), LocalDateTime.now()));
+            return true;
+        } catch (RuntimeException exception) {
+            log.warn("An exception has been raised while relaying the outbox event {} of aggregate {}. Message: {}", event.type(), event.aggregateId(), exception.getMessage());
+            return false;
+        }
+    }
+
+    private ApplicationEvent toApplicationEvent(TodoOutboxEvent event) {
+        Clock publicationClock = Clock.fixed(event.createdAt().atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return switch (event.type()) {
+            case UPDATE_PAST_DUE -> new UpdatePastDueEvent(this, event.aggregateId(), publicationClock);
+        };
+    }
+
+    private List<Future<Boolean>> invokeAll(List<Callable<Boolean>> dispatches) {
+        try {
+            return executorService.invokeAll(dispatches);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying the outbox events", exception);
+        }
+    }
+
+    private static boolean isDispatched(Future<Boolean> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record AggregateKey(TodoOutboxEvent.Type type, Long aggregateId) {
+    }
+
+}
@@ -0,0 +1,318 @@
+package com.danieltnaves.todoservice.todo.readmodel;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Todo items stored by column in id order: primitive arrays for the ids, versions, status ordinals and the dates as
+ * UTC epoch microseconds, the precision of the TODO table, and a shared byte array arena for the UTF-8 descriptions.
+ * An item takes 49 bytes plus its description, against the hundreds taken by an entity with its boxed fields, date
+ * objects and persistence context snapshot. The rows are found by binary search on the ids, and the new items are
+ * usually appended, as the ids grow. A changed description is written over the old one when it fits and appended to
+ * the arena otherwise; the arena is rewritten once half of it is unused.
+ */
+public class TodoColumnStore {
+
+    private static final long NULL_VALUE = Long.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int MIN_COMPACTED_ARENA_SIZE = 1 << 20;
+
+    private static final TodoDTO.Status[] STATUSES = TodoDTO.Status.values();
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids;
+
+    private long[] versions;
+
+    private byte[] statuses;
+
+    private long[] createdAt;
+
+    private long[] doneAt;
+
+    private long[] dueAt;
+
+    private int[] descriptionOffsets;
+
+    private int[] descriptionLengths;
+
+    private byte[] descriptions;
+
+    private int descriptionsSize;
+
+    private long unusedDescriptionBytes;
+
+    private int size;
+
+    public TodoColumnStore() {
+        this(MIN_CAPACITY);
+    }
+
+    public TodoColumnStore(int initialCapacity) {
+        int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        ids = new long[capacity];
+        versions = new long[capacity];
+        statuses = new byte[capacity];
+        createdAt = new long[capacity];
+        doneAt = new long[capacity];
+        dueAt = new long[capacity];
+        descriptionOffsets = new int[capacity];
+        descriptionLengths = new int[capacity];
+        descriptions = new byte[capacity * 32];
+    }
+
+    /**
+     * Stores the item, unless a higher version of it is already stored.
+     */
+    public void upsert(TodoDTO todo) {
+        lock.writeLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, todo.id());
+            if (row < 0) {
+                row = insertRow(-row - 1, todo.id());
+            } else if (versions[row] != NULL_VALUE && todo.version() != null && versions[row] > todo.version()) {
+                return;
+            }
+            versions[row] = todo.version() != null ? todo.version() : NULL_VALUE;
+            statuses[row] = (byte) todo.status().ordinal();
+            createdAt[row] = toEpochMicros(todo.createdAt());
+            doneAt[row] = toEpochMicros(todo.doneAt());
+            dueAt[row] = toEpochMicros(todo.dueAt());
+            setDescription(row, todo.description());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the items still on the previous status to the status, bumping their versions as the bulk status update of
+     * the table does, and returns how many were moved.
+     */
+    public int updateStatus(Collection<Long> todoIds, TodoDTO.Status previousStatus, TodoDTO.Status status) {
+        lock.writeLock().lock();
+        try {
+            int updatedItems = 0;
+            for (Long id : todoIds) {
+                int row = Arrays.binarySearch(ids, 0, size, id);
+                if (row >= 0 && statuses[row] == previousStatus.ordinal()) {
+                    statuses[row] = (byte) status.ordinal();
+                    versions[row] = versions[row] != NULL_VALUE ? versions[row] + 1 : NULL_VALUE;
+                    updatedItems++;
+                }
+            }
+            return updatedItems;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<TodoDTO> findById(long id) {
+        lock.readLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            return row >= 0 ? Optional.of(toTodoDTO(row)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the items of the ids in id order, skipping the ids not stored.
+     */
+    public List<TodoDTO> findAllByIds(long[] todoIds) {
+        lock.readLock().lock();
+        try {
+            List<TodoDTO> todos = new ArrayList<>(todoIds.length);
+            for (long id : todoIds) {
+                int row = Arrays.binarySearch(ids, 0, size, id);
+                if (row >= 0) {
+                    todos.add(toTodoDTO(row));
+                }
+            }
+            todos.sort((first, second) -> Long.compare(first.id(), second.id()));
+            return todos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit items in id order after skipping offset items, only counting the items with the status
+     * when one is given. Without a status the first row is found right away; with one the status column is scanned.
+     */
+    public List<TodoDTO> findPage(TodoDTO.Status status, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (status == null) {
+                int from = (int) Math.min(offset, size);
+                return toTodoDTOs(from, Math.min(size, from + limit), null, limit);
+            }
+            byte statusOrdinal = (byte) status.ordinal();
+            long skipped = 0;
+            int row = 0;
+            while (row < size && skipped < offset) {
+                if (statuses[row++] == statusOrdinal) {
+                    skipped++;
+                }
+            }
+            return toTodoDTOs(row, size, status, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit items with an id greater than the given one in id order, only counting the items with the
+     * status when one is given.
+     */
+    public List<TodoDTO> findAfter(TodoDTO.Status status, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, afterId);
+            int from = row >= 0 ? row + 1 : -row - 1;
+            return toTodoDTOs(from, size, status, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the bytes allocated by the columns and the description arena, including their unused capacity.
+     */
+    public long getAllocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.length * (Long.BYTES * 5 + 1 + Integer.BYTES * 2) + descriptions.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<TodoDTO> toTodoDTOs(int from, int to, TodoDTO.Status status, int limit) {
+        List<TodoDTO> todos = new ArrayList<>(Math.max(0, Math.min(limit, to - from)));
+        for (int row = from; row < to && todos.size() < limit; row++) {
+            if (status == null || statuses[row] == status.ordinal()) {
+                todos.add(toTodoDTO(row));
+            }
+        }
+        return todos;
+    }
+
+    private TodoDTO toTodoDTO(int row) {
+        return new TodoDTO(ids[row],
+                new String(descriptions, descriptionOffsets[row], descriptionLengths[row], StandardCharsets.UTF_8),
+                STATUSES[statuses[row]],
+                fromEpochMicros(createdAt[row]),
+                fromEpochMicros(doneAt[row]),
+                fromEpochMicros(dueAt[row]),
+                versions[row] != NULL_VALUE ? versions[row] : null);
+    }
+
+    private int insertRow(int row, long id) {
+        if (size == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            doneAt = Arrays.copyOf(doneAt, capacity);
+            dueAt = Arrays.copyOf(dueAt, capacity);
+            descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity);
+            descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+        }
+        if (row < size) {
+            int movedRows = size - row;
+            System.arraycopy(ids, row, ids, row + 1, movedRows);
+            System.arraycopy(versions, row, versions, row + 1, movedRows);
+            System.arraycopy(statuses, row, statuses, row + 1, movedRows);
+            System.arraycopy(createdAt, row, createdAt, row + 1, movedRows);
+            System.arraycopy(doneAt, row, doneAt, row + 1, movedRows);
+            System.arraycopy(dueAt, row, dueAt, row + 1, movedRows);
+            System.arraycopy(descriptionOffsets, row, descriptionOffsets, row + 1, movedRows);
+            System.arraycopy(descriptionLengths, row, descriptionLengths, row + 1, movedRows);
+        }
+        ids[row] = id;
+        descriptionOffsets[row] = 0;
+        descriptionLengths[row] = 0;
+        size++;
+        return row;
+    }
+
+    private void setDescription(int row, String description) {
+        byte[] bytes = description != null ? description.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int previousLength = descriptionLengths[row];
+        if (bytes.length <= previousLength) {
+            System.arraycopy(bytes, 0, descriptions, descriptionOffsets[row], bytes.length);
+            unusedDescriptionBytes += previousLength - bytes.length;
+        } else {
+            unusedDescriptionBytes += previousLength;
+            if (descriptionsSize + bytes.length > descriptions.length) {
+                growDescriptions(bytes.length);
+            }
+            System.arraycopy(bytes, 0, descriptions, descriptionsSize, bytes.length);
+            descriptionOffsets[row] = descriptionsSize;
+            descriptionsSize += bytes.length;
+        }
+        descriptionLengths[row] = bytes.length;
+    }
+
+    private void growDescriptions(int requiredBytes) {
+        if (descriptionsSize >= MIN_COMPACTED_ARENA_SIZE && unusedDescriptionBytes * 2 > descriptionsSize) {
+            compactDescriptions();
+        }
+        long requiredSize = (long) descriptionsSize + requiredBytes;
+        if (requiredSize > descriptions.length) {
+            long capacity = Math.max(requiredSize, descriptions.length + (descriptions.length >> 1));
+            descriptions = Arrays.copyOf(descriptions, (int) Math.min(capacity, Integer.MAX_VALUE - 8));
+        }
+    }
+
+    private void compactDescriptions() {
+        byte[] compactedDescriptions = new byte[descriptions.length];
+        int compactedSize = 0;
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(descriptions, descriptionOffsets[row], compactedDescriptions, compactedSize, descriptionLengths[row]);
+            descriptionOffsets[row] = compactedSize;
+            compactedSize += descriptionLengths[row];
+        }
+        descriptions = compactedDescriptions;
+        descriptionsSize = compactedSize;
+        unusedDescriptionBytes = 0;
+    }
+
+    private static long toEpochMicros(LocalDateTime date) {
+        return date != null ? ChronoUnit.MICROS.between(EPOCH, date) : NULL_VALUE;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        if (epochMicros == NULL_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L), (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+}
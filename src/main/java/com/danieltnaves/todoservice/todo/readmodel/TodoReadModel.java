@@ -0,0 +1,114 @@
+package com.danieltnaves.todoservice.todo.readmodel;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.events.TodoStatusChangedEvent;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Optional in-memory copy of every Todo item in a {@link TodoColumnStore}, serving the reads of {@code TodoService}
+ * without reaching the database. The items of every shard are loaded before the service starts taking requests, and
+ * the changed items are applied after the transaction that changed them commits.
+ */
+@Component
+@Slf4j
+public class TodoReadModel implements SmartInitializingSingleton {
+
+    private final TodoColumnStore todoColumnStore;
+
+    private final TodoRepository todoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TodoShards todoShards;
+
+    private final boolean enabled;
+
+    public TodoReadModel(TodoRepository todoRepository, PlatformTransactionManager transactionManager, TodoShards todoShards, MeterRegistry meterRegistry,
+                         @Value("${todo.read-model.enabled:false}") boolean enabled,
+                         @Value("${todo.read-model.initial-capacity:1024}") int initialCapacity) {
+        this.todoRepository = todoRepository;
+        this.todoShards = todoShards;
+        this.enabled = enabled;
+        this.todoColumnStore = new TodoColumnStore(enabled ? initialCapacity : 0);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        if (enabled) {
+            Gauge.builder("todo.read-model.items", todoColumnStore, TodoColumnStore::size)
+                    .description("Todo items stored on the columnar read model")
+                    .baseUnit("items")
+                    .register(meterRegistry);
+            Gauge.builder("todo.read-model.memory.per-item", this, TodoReadModel::getBytesPerItem)
+                    .description("Heap allocated by the columnar read model for each stored Todo item")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        PrimaryDataSourceContext.runOnPrimary(() -> todoShards.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TodoDTO> todos = todoRepository.streamAllTodoDTOs()) {
+                todos.forEach(todoColumnStore::upsert);
+            }
+        })));
+        log.info("{} Todo items loaded on the read model with {} bytes per item", todoColumnStore.size(), Math.round(getBytesPerItem()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChangedEvent(TodoChangedEvent event) {
+        if (enabled) {
+            todoColumnStore.upsert(event.getTodo());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoStatusChangedEvent(TodoStatusChangedEvent event) {
+        if (enabled) {
+            todoColumnStore.updateStatus(event.getIds(), TodoDTO.Status.fromTodoStatus(event.getPreviousStatus()), TodoDTO.Status.fromTodoStatus(event.getStatus()));
+        }
+    }
+
+    public Optional<TodoDTO> findById(Long id) {
+        return todoColumnStore.findById(id);
+    }
+
+    public List<TodoDTO> findPage(boolean onlyNotDoneItems, int page, int size) {
+        return todoColumnStore.findPage(onlyNotDoneItems ? TodoDTO.Status.NOT_DONE : null, (long) page * size, size);
+    }
+
+    public List<TodoDTO> findAfter(boolean onlyNotDoneItems, Long lastId, int size) {
+        return todoColumnStore.findAfter(onlyNotDoneItems ? TodoDTO.Status.NOT_DONE : null, lastId, size);
+    }
+
+    public List<TodoDTO> findAllByIds(long[] ids) {
+        return todoColumnStore.findAllByIds(ids);
+    }
+
+    private double getBytesPerItem() {
+        int items = todoColumnStore.size();
+        return items == 0 ? 0 : (double) todoColumnStore.getAllocatedBytes() / items;
+    }
+
+}
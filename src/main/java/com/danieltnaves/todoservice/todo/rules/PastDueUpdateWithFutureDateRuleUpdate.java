@@ -6,6 +6,7 @@ import com.danieltnaves.todoservice.todo.errors.UpdatePastDueTodoItemWithFutureD
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRuleTemplate;
 import java.time.LocalDateTime;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,8 +20,17 @@ public class PastDueUpdateWithFutureDateRuleUpdate extends UpdateTodoItemRuleTem
     }
 
     @Override
-    protected boolean validate(TodoDTO todoDTO, Todo todo) {
-        return TodoDTO.Status.PAST_DUE.equals(todoDTO.status()) && ObjectUtils.isNotEmpty(todoDTO.dueAt()) && LocalDateTime.now().isBefore(todoDTO.dueAt());
+    protected boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
+        return isRejected(todoDTO, now);
+    }
+
+    @Override
+    public Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now) {
+        return allItemsIf(isRejected(todoDTO, now));
+    }
+
+    private static boolean isRejected(TodoDTO todoDTO, LocalDateTime now) {
+        return TodoDTO.Status.PAST_DUE.equals(todoDTO.status()) && ObjectUtils.isNotEmpty(todoDTO.dueAt()) && now.isBefore(todoDTO.dueAt());
     }
 
     @Override
@@ -4,6 +4,8 @@ import com.danieltnaves.todoservice.todo.api.TodoDTO;
 import com.danieltnaves.todoservice.todo.domain.Todo;
 import com.danieltnaves.todoservice.todo.errors.UpdateDoneTodoItemException;
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRuleTemplate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 
@@ -18,10 +20,18 @@ public class UpdateDoneUpdateTodoItemRule extends UpdateTodoItemRuleTemplate {
     }
 
     @Override
-    protected boolean validate(TodoDTO todoDTO, Todo todo) {
+    protected boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
         return Todo.Status.DONE.equals(todo.getStatus()) && !TodoDTO.Status.NOT_DONE.equals(todoDTO.status());
     }
 
+    @Override
+    public Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now) {
+        if (TodoDTO.Status.NOT_DONE.equals(todoDTO.status())) {
+            return allItemsIf(false);
+        }
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), Todo.Status.DONE);
+    }
+
     @Override
     protected void throwException(String message) {
         throw new UpdateDoneTodoItemException(message);
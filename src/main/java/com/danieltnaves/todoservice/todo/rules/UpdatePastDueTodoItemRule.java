@@ -6,6 +6,7 @@ import com.danieltnaves.todoservice.todo.errors.UpdatePastDueException;
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRuleTemplate;
 import java.time.LocalDateTime;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,8 +20,15 @@ public class UpdatePastDueTodoItemRule extends UpdateTodoItemRuleTemplate {
     }
 
     @Override
-    protected boolean validate(TodoDTO todoDTO, Todo todo) {
-        return ObjectUtils.isNotEmpty(todo.getDueAt()) && LocalDateTime.now().isAfter(todo.getDueAt());
+    protected boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
+        return ObjectUtils.isNotEmpty(todo.getDueAt()) && now.isAfter(todo.getDueAt());
+    }
+
+    @Override
+    public Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.isNotNull(root.get("dueAt")),
+                criteriaBuilder.lessThan(root.<LocalDateTime>get("dueAt"), now));
     }
 
     @Override
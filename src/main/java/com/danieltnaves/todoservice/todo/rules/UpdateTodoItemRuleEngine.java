@@ -0,0 +1,88 @@
+package com.danieltnaves.todoservice.todo.rules;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.GenericHttpException;
+import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates the update rules in a single pass over the item. The rules are resolved once at startup, the clock is
+ * read once per evaluation and the first rule rejecting the changes stops the evaluation, as the rule order decides
+ * which error is reported. The metrics of each rule are registered up front and recorded from the clock ticks, so
+ * the evaluation allocates nothing for them.
+ */
+@Component
+public class UpdateTodoItemRuleEngine {
+
+    private static final String EVALUATION_DESCRIPTION = "Time spent on each update rule, either evaluating it in memory (phase=evaluation) or "
+            + "building its condition for the conditional update of a PATCH (phase=specification), which the database then evaluates";
+
+    private final UpdateTodoItemRule[] updateTodoItemRules;
+
+    private final Timer[] evaluationTimers;
+
+    private final Timer[] specificationTimers;
+
+    private final Counter[] rejectionCounters;
+
+    public UpdateTodoItemRuleEngine(List<UpdateTodoItemRule> updateTodoItemRules, MeterRegistry meterRegistry) {
+        this.updateTodoItemRules = updateTodoItemRules.toArray(UpdateTodoItemRule[]::new);
+        this.evaluationTimers = new Timer[this.updateTodoItemRules.length];
+        this.specificationTimers = new Timer[this.updateTodoItemRules.length];
+        this.rejectionCounters = new Counter[this.updateTodoItemRules.length];
+        for (int position = 0; position < this.updateTodoItemRules.length; position++) {
+            String rule = AopUtils.getTargetClass(this.updateTodoItemRules[position]).getSimpleName();
+            evaluationTimers[position] = getEvaluationTimer(meterRegistry, rule, "evaluation");
+            specificationTimers[position] = getEvaluationTimer(meterRegistry, rule, "specification");
+            rejectionCounters[position] = Counter.builder("todo.rules.rejections")
+                    .description("Changes rejected by each update rule")
+                    .tag("rule", rule)
+                    .register(meterRegistry);
+        }
+    }
+
+    public void evaluate(TodoDTO todoDTO, Todo todo) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int position = 0; position < updateTodoItemRules.length; position++) {
+            long start = System.nanoTime();
+            try {
+                updateTodoItemRules[position].evaluate(todoDTO, todo, now);
+            } catch (GenericHttpException exception) {
+                rejectionCounters[position].increment();
+                throw exception;
+            } finally {
+                evaluationTimers[position].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public Specification<Todo> toSpecification(TodoDTO todoDTO) {
+        LocalDateTime now = LocalDateTime.now();
+        Specification<Todo> rejection = null;
+        for (int position = 0; position < updateTodoItemRules.length; position++) {
+            long start = System.nanoTime();
+            Specification<Todo> ruleRejection = updateTodoItemRules[position].toSpecification(todoDTO, now);
+            specificationTimers[position].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            rejection = rejection == null ? ruleRejection : rejection.or(ruleRejection);
+        }
+        return rejection;
+    }
+
+    private static Timer getEvaluationTimer(MeterRegistry meterRegistry, String rule, String phase) {
+        return Timer.builder("todo.rules.evaluation")
+                .description(EVALUATION_DESCRIPTION)
+                .tag("rule", rule)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+}
@@ -7,6 +7,7 @@ import com.danieltnaves.todoservice.todo.domain.Todo;
 import com.danieltnaves.todoservice.todo.errors.UpdatePastDueException;
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRuleTemplate;
 import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
@@ -21,8 +22,17 @@ public class UpdateTodoItemStatusToPastDueRule extends UpdateTodoItemRuleTemplat
     }
 
     @Override
-    protected boolean validate(TodoDTO todoDTO, Todo todo) {
-        return Status.PAST_DUE.equals(todoDTO.status()) && (ObjectUtils.isEmpty(todoDTO.dueAt()) || !LocalDateTime.now().isAfter(todoDTO.dueAt()));
+    protected boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
+        return isRejected(todoDTO, now);
+    }
+
+    @Override
+    public Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now) {
+        return allItemsIf(isRejected(todoDTO, now));
+    }
+
+    private static boolean isRejected(TodoDTO todoDTO, LocalDateTime now) {
+        return Status.PAST_DUE.equals(todoDTO.status()) && (ObjectUtils.isEmpty(todoDTO.dueAt()) || !now.isAfter(todoDTO.dueAt()));
     }
 
     @Override
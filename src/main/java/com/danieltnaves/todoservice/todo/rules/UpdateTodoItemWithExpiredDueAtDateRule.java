@@ -8,6 +8,7 @@ import com.danieltnaves.todoservice.todo.errors.UpdatePastDueException;
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRuleTemplate;
 import java.time.LocalDateTime;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,8 +22,17 @@ public class UpdateTodoItemWithExpiredDueAtDateRule extends UpdateTodoItemRuleTe
     }
 
     @Override
-    protected boolean validate(TodoDTO todoDTO, Todo todo) {
-        return ObjectUtils.isNotEmpty(todoDTO.dueAt()) && LocalDateTime.now().isAfter(todoDTO.dueAt()) && (!Status.PAST_DUE.equals(todoDTO.status()));
+    protected boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
+        return isRejected(todoDTO, now);
+    }
+
+    @Override
+    public Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now) {
+        return allItemsIf(isRejected(todoDTO, now));
+    }
+
+    private static boolean isRejected(TodoDTO todoDTO, LocalDateTime now) {
+        return ObjectUtils.isNotEmpty(todoDTO.dueAt()) && now.isAfter(todoDTO.dueAt()) && (!Status.PAST_DUE.equals(todoDTO.status()));
     }
 
     @Override
@@ -2,9 +2,21 @@ package com.danieltnaves.todoservice.todo.rules.baserule;
 
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
 
 public interface UpdateTodoItemRule {
 
-    void evaluate(TodoDTO todoDTO, Todo todo);
+    default void evaluate(TodoDTO todoDTO, Todo todo) {
+        evaluate(todoDTO, todo, LocalDateTime.now());
+    }
+
+    void evaluate(TodoDTO todoDTO, Todo todo, LocalDateTime now);
+
+    /**
+     * Returns the stored items for which this rule rejects the given changes, so the rule can be enforced by a
+     * conditional update without loading the item first.
+     */
+    Specification<Todo> toSpecification(TodoDTO todoDTO, LocalDateTime now);
 
 }
@@ -2,19 +2,26 @@ package com.danieltnaves.todoservice.todo.rules.baserule;
 
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
 
 public abstract class UpdateTodoItemRuleTemplate implements UpdateTodoItemRule {
 
-    public void evaluate(TodoDTO todoDTO, Todo todo) {
-        if (validate(todoDTO, todo)) {
+    @Override
+    public void evaluate(TodoDTO todoDTO, Todo todo, LocalDateTime now) {
+        if (validate(todoDTO, todo, now)) {
             throwException(getMessage(todoDTO, todo));
         }
     }
 
     protected abstract String getMessage(TodoDTO todoDTO, Todo todo);
 
-    protected abstract boolean validate(TodoDTO todoDTO, Todo todo);
+    protected abstract boolean validate(TodoDTO todoDTO, Todo todo, LocalDateTime now);
 
     protected abstract void throwException(String message);
 
+    protected static Specification<Todo> allItemsIf(boolean condition) {
+        return (root, query, criteriaBuilder) -> condition ? criteriaBuilder.conjunction() : criteriaBuilder.disjunction();
+    }
+
 }
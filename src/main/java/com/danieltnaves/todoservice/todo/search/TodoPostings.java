@@ -0,0 +1,63 @@
+package com.danieltnaves.todoservice.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted ids of the Todo items containing a term, kept in a primitive array. New items have the highest ids, so they
+ * are usually appended at the end.
+ */
+final class TodoPostings {
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private static final long OBJECT_BYTES = 16 + 8 + 4;
+
+    private static final long ARRAY_BYTES = 16;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    void add(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertion = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        if (size > INITIAL_CAPACITY && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    long estimatedBytes() {
+        return OBJECT_BYTES + ARRAY_BYTES + 8L * ids.length;
+    }
+
+}
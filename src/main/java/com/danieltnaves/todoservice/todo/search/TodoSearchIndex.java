@@ -0,0 +1,278 @@
+package com.danieltnaves.todoservice.todo.search;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory inverted index from the lower-cased words of the Todo descriptions to the ids of the items containing them.
+ * The index is built from the table before the service starts taking requests, and the changed items are re-indexed
+ * after the transaction that changed them commits. The listeners of two commits can run in any order, so the version
+ * and description indexed for each item are kept: a change older than the indexed version is ignored, and the words
+ * removed are the indexed ones rather than the previous description carried by the event.
+ */
+@Component
+@Slf4j
+public class TodoSearchIndex implements SmartInitializingSingleton {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final long[] NO_IDS = new long[0];
+
+    private static final long TERM_ENTRY_BYTES = 40;
+
+    private static final long TERM_STRING_BYTES = 24 + 16;
+
+    private static final long ITEM_ENTRY_BYTES = 48 + 16 + 24 + 16;
+
+    private final NavigableMap<String, TodoPostings> terms = new TreeMap<>();
+
+    private final Map<Long, IndexedTodo> indexedTodos = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TodoRepository todoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TodoShards todoShards;
+
+    private long indexedItems;
+
+    public TodoSearchIndex(TodoRepository todoRepository, PlatformTransactionManager transactionManager, TodoShards todoShards, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoShards = todoShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        Gauge.builder("todo.search.index.items", this, TodoSearchIndex::getIndexedItems)
+                .description("Todo items added to the description search index")
+                .baseUnit("items")
+                .register(meterRegistry);
+        Gauge.builder("todo.search.index.terms", this, TodoSearchIndex::getTerms)
+                .description("Distinct words on the description search index")
+                .register(meterRegistry);
+        Gauge.builder("todo.search.index.memory.per-item", this, TodoSearchIndex::getEstimatedBytesPerItem)
+                .description("Estimated heap used by the description search index for each indexed Todo item")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        lock.writeLock().lock();
+        try {
+            PrimaryDataSourceContext.runOnPrimary(() -> todoShards.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TodoDTO> todos = todoRepository.streamAllTodoDTOs()) {
+                    todos.forEach(todo -> index(todo.id(), todo.version(), todo.description()));
+                }
+            })));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("{} Todo items added to the search index with {} terms", indexedItems, terms.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChangedEvent(TodoChangedEvent event) {
+        TodoDTO todo = event.getTodo();
+        lock.writeLock().lock();
+        try {
+            IndexedTodo indexedTodo = indexedTodos.get(todo.id());
+            if (ObjectUtils.isEmpty(indexedTodo)) {
+                index(todo.id(), todo.version(), todo.description());
+                return;
+            }
+            if (indexedTodo.isNewerThan(todo.version())) {
+                return;
+            }
+            if (Objects.equals(indexedTodo.description(), todo.description())) {
+                indexedTodos.put(todo.id(), new IndexedTodo(todo.version(), todo.description()));
+                return;
+            }
+            unindex(todo.id(), indexedTodo.description());
+            index(todo.id(), todo.version(), todo.description());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long id, Long version, String description) {
+        indexedTodos.put(id, new IndexedTodo(version, description));
+        Set<String> tokens = tokenize(description);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        tokens.forEach(token -> terms.computeIfAbsent(token, term -> new TodoPostings()).add(id));
+        indexedItems++;
+    }
+
+    private void unindex(Long id, String description) {
+        Set<String> tokens = tokenize(description);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        for (String token : tokens) {
+            TodoPostings postings = terms.get(token);
+            if (ObjectUtils.isNotEmpty(postings)) {
+                postings.remove(id);
+                if (postings.isEmpty()) {
+                    terms.remove(token);
+                }
+            }
+        }
+        indexedItems--;
+    }
+
+    /**
+     * Returns the sorted ids of the items containing, for every word of the query, a word starting with it.
+     */
+    public long[] search(String query) {
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return NO_IDS;
+        }
+        lock.readLock().lock();
+        try {
+            long[] ids = null;
+            for (String token : tokens) {
+                long[] tokenIds = searchPrefix(token);
+                ids = ObjectUtils.isEmpty(ids) ? tokenIds : intersect(ids, tokenIds);
+                if (ids.length == 0) {
+                    return NO_IDS;
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] searchPrefix(String prefix) {
+        Collection<TodoPostings> matches = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        if (matches.size() == 1) {
+            return matches.iterator().next().toArray();
+        }
+        long[] ids = new long[matches.stream().mapToInt(TodoPostings::size).sum()];
+        int size = 0;
+        for (TodoPostings postings : matches) {
+            long[] postingIds = postings.toArray();
+            System.arraycopy(postingIds, 0, ids, size, postingIds.length);
+            size += postingIds.length;
+        }
+        Arrays.sort(ids);
+        return distinct(ids);
+    }
+
+    private static long[] distinct(long[] sortedIds) {
+        int size = 0;
+        for (int position = 0; position < sortedIds.length; position++) {
+            if (position == 0 || sortedIds[position] != sortedIds[position - 1]) {
+                sortedIds[size++] = sortedIds[position];
+            }
+        }
+        return size == sortedIds.length ? sortedIds : Arrays.copyOf(sortedIds, size);
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] ids = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int leftPosition = 0;
+        int rightPosition = 0;
+        while (leftPosition < left.length && rightPosition < right.length) {
+            if (left[leftPosition] < right[rightPosition]) {
+                leftPosition++;
+            } else if (left[leftPosition] > right[rightPosition]) {
+                rightPosition++;
+            } else {
+                ids[size++] = left[leftPosition];
+                leftPosition++;
+                rightPosition++;
+            }
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new TreeSet<>();
+        if (ObjectUtils.isEmpty(text)) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private double getIndexedItems() {
+        lock.readLock().lock();
+        try {
+            return indexedItems;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double getTerms() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double getEstimatedBytesPerItem() {
+        lock.readLock().lock();
+        try {
+            if (indexedItems == 0) {
+                return 0;
+            }
+            long estimatedBytes = 0;
+            for (Map.Entry<String, TodoPostings> term : terms.entrySet()) {
+                estimatedBytes += TERM_ENTRY_BYTES + TERM_STRING_BYTES + term.getKey().length() + term.getValue().estimatedBytes();
+            }
+            for (IndexedTodo indexedTodo : indexedTodos.values()) {
+                estimatedBytes += ITEM_ENTRY_BYTES + (indexedTodo.description() == null ? 0 : TERM_STRING_BYTES + indexedTodo.description().length());
+            }
+            return (double) estimatedBytes / indexedItems;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedTodo(Long version, String description) {
+
+        boolean isNewerThan(Long otherVersion) {
+            return version != null && otherVersion != null && version > otherVersion;
+        }
+
+    }
+
+}
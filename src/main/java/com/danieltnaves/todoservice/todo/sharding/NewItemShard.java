@@ -0,0 +1,14 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the {@code TodoService} calls that add items, which are stored on the shards in turn.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NewItemShard {
+}
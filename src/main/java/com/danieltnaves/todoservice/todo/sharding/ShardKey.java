@@ -0,0 +1,14 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the Todo id, or the batch of Todo changes, that routes a {@code TodoService} call to its shard.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
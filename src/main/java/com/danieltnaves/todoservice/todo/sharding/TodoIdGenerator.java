@@ -0,0 +1,78 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Generates the Todo ids from the TODO_SEQ sequence of the shard the item is stored on, reserving
+ * {@link #ALLOCATION_SIZE} values, the sequence increment, with each call. The blocks are guarded by locks instead of
+ * monitors, so fetching the next block doesn't pin a virtual thread. On a sharded database the shard is
+ * encoded on the id by {@link TodoShardIds}, otherwise the sequence values are used as they are.
+ */
+public class TodoIdGenerator implements IdentifierGenerator {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final String SEQUENCE_NAME = "TODO_SEQ";
+
+    private static final int NOT_SHARDED = -1;
+
+    private final Map<Integer, IdBlock> idBlocks = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        Integer shard = TodoShardContext.getShard();
+        IdBlock idBlock = idBlocks.computeIfAbsent(shard == null ? NOT_SHARDED : shard, key -> new IdBlock());
+        long sequence;
+        idBlock.lock.lock();
+        try {
+            if (idBlock.next == idBlock.end) {
+                idBlock.next = nextSequenceValue(session);
+                idBlock.end = idBlock.next + ALLOCATION_SIZE;
+            }
+            sequence = idBlock.next++;
+        } finally {
+            idBlock.lock.unlock();
+        }
+        return shard == null ? sequence : TodoShardIds.encode(sequence, shard);
+    }
+
+    private static long nextSequenceValue(SharedSessionContractImplementor session) {
+        String sql = session.getFactory().getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(SEQUENCE_NAME);
+        JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+        PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement(sql);
+        try {
+            ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract(statement, sql);
+            try {
+                resultSet.next();
+                return resultSet.getLong(1);
+            } finally {
+                jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(resultSet, statement);
+            }
+        } catch (SQLException exception) {
+            throw session.getFactory().getJdbcServices().getSqlExceptionHelper().convert(exception, "Unable to read the next value of " + SEQUENCE_NAME, sql);
+        } finally {
+            jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+            jdbcCoordinator.afterStatementExecution();
+        }
+    }
+
+    private static final class IdBlock {
+
+        private final Lock lock = new ReentrantLock();
+
+        private long next;
+
+        private long end;
+
+    }
+
+}
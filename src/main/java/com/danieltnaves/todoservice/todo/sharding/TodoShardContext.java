@@ -0,0 +1,26 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+/**
+ * The shard the database connections of the current thread are fetched from. It must be set before the transaction
+ * issues its first statement, since the connection stays bound to the transaction afterwards.
+ */
+public final class TodoShardContext {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private TodoShardContext() {
+    }
+
+    public static Integer getShard() {
+        return SHARD.get();
+    }
+
+    public static void setShard(int shard) {
+        SHARD.set(shard);
+    }
+
+    public static void clear() {
+        SHARD.remove();
+    }
+
+}
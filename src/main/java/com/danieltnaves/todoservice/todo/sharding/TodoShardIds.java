@@ -0,0 +1,26 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+/**
+ * The ids of the items stored on a shard keep the shard on their lowest bits, so any id can be routed to its shard
+ * without a lookup, and the sequence on the upper bits keeps them unique across the shards.
+ */
+public final class TodoShardIds {
+
+    public static final int SHARD_BITS = 8;
+
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private TodoShardIds() {
+    }
+
+    public static long encode(long sequence, int shard) {
+        return sequence << SHARD_BITS | shard;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id & SHARD_MASK);
+    }
+
+}
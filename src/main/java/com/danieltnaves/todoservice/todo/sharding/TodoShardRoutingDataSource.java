@@ -0,0 +1,56 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Fetches the connections from the shard on the {@link TodoShardContext}, or from the first shard when it isn't set,
+ * as for the schema migrations and validation. It must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the shard can still be chosen after
+ * the transaction begins.
+ */
+public class TodoShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> shards;
+
+    private final Counter[] routedConnections;
+
+    public TodoShardRoutingDataSource(List<HikariDataSource> shards, MeterRegistry meterRegistry) {
+        this.shards = shards;
+        this.routedConnections = new Counter[shards.size()];
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targetDataSources.put(shard, shards.get(shard));
+            routedConnections[shard] = Counter.builder("todo.sharding.connections")
+                    .description("Connections fetched from each shard")
+                    .tag("shard", Integer.toString(shard))
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public List<HikariDataSource> getShards() {
+        return shards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = TodoShardContext.getShard();
+        routedConnections[shard == null ? 0 : shard].increment();
+        return shard;
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+
+}
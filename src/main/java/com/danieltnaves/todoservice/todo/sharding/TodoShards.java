@@ -0,0 +1,155 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the Todo queries on the shard of an item, on the next shard for new items or on every shard. Without sharding
+ * there is a single shard, and the calls run on the current thread without setting the {@link TodoShardContext}.
+ */
+@Component
+public class TodoShards {
+
+    private final int shardCount;
+
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    private final ExecutorService executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("todo-shard-", 0).factory());
+
+    public TodoShards(@Value("${todo.sharding.enabled:false}") boolean enabled, @Value("${todo.sharding.urls:}") List<String> urls) {
+        this.shardCount = enabled ? urls.size() : 1;
+        if (shardCount < 1 || shardCount > TodoShardIds.MAX_SHARDS) {
+            throw new IllegalArgumentException(String.format("Between 1 and %d shards must be configured on todo.sharding.urls", TodoShardIds.MAX_SHARDS));
+        }
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int nextShard() {
+        return Math.floorMod(nextShard.getAndIncrement(), shardCount);
+    }
+
+    /**
+     * Returns the shard of the item, or the first shard for ids that can't be on any shard, where they won't be found.
+     */
+    public int shardOf(Long id) {
+        if (id == null) {
+            return 0;
+        }
+        int shard = TodoShardIds.shardOf(id);
+        return shard < shardCount ? shard : 0;
+    }
+
+    public <T> T callOnShard(int shard, Supplier<T> call) {
+        if (!isSharded()) {
+            return call.get();
+        }
+        Integer previousShard = TodoShardContext.getShard();
+        TodoShardContext.setShard(shard);
+        try {
+            return call.get();
+        } finally {
+            if (previousShard == null) {
+                TodoShardContext.clear();
+            } else {
+                TodoShardContext.setShard(previousShard);
+            }
+        }
+    }
+
+    public void forEachShard(Runnable runnable) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            callOnShard(shard, () -> {
+                runnable.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Runs the call on every shard at the same time and returns the results by shard. The calls stay on the primary
+     * datasource when the caller is pinned to it.
+     */
+    public <T> List<T> scatter(Supplier<T> call) {
+        if (!isSharded()) {
+            return List.of(call.get());
+        }
+        boolean pinned = PrimaryDataSourceContext.isPinned();
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int targetShard = shard;
+            futures.add(executorService.submit(() -> pinned
+                    ? PrimaryDataSourceContext.callOnPrimary(() -> callOnShard(targetShard, call))
+                    : callOnShard(targetShard, call)));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        for (Future<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Merges lists sorted by the comparator into the first {@code limit} elements, keeping a single candidate of each
+     * list on the heap.
+     */
+    public static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> comparator, int limit) {
+        PriorityQueue<MergeCursor<T>> heap = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (cursor, otherCursor) -> comparator.compare(cursor.current(), otherCursor.current()));
+        for (List<T> sortedList : sortedLists) {
+            if (!sortedList.isEmpty()) {
+                heap.add(new MergeCursor<>(sortedList, 0));
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, sortedLists.stream().mapToInt(List::size).sum()));
+        while (merged.size() < limit && !heap.isEmpty()) {
+            MergeCursor<T> cursor = heap.poll();
+            merged.add(cursor.current());
+            if (cursor.position() + 1 < cursor.list().size()) {
+                heap.add(new MergeCursor<>(cursor.list(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(exception.getCause());
+        }
+    }
+
+    private record MergeCursor<T>(List<T> list, int position) {
+
+        T current() {
+            return list.get(position);
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.danieltnaves.todoservice.todo.sharding.configuration;
+
+import com.danieltnaves.todoservice.todo.sharding.TodoShardRoutingDataSource;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Spreads the TODO table across the databases on {@code todo.sharding.urls}, each one with its own Hikari pool and
+ * migrated by Flyway on startup. The read replica routing can't be combined with it.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "todo.sharding.enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+    private static final String REPLICA_NOT_SUPPORTED_MESSAGE = "todo.datasource.replica.enabled can't be combined with todo.sharding.enabled";
+
+    public ShardingConfiguration(@Value("${todo.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        if (replicaEnabled) {
+            throw new IllegalStateException(REPLICA_NOT_SUPPORTED_MESSAGE);
+        }
+    }
+
+    @Bean
+    public TodoShardRoutingDataSource shardRoutingDataSource(@Value("${todo.sharding.urls}") List<String> urls,
+                                                             @Value("${todo.sharding.username:}") String username,
+                                                             @Value("${todo.sharding.password:}") String password,
+                                                             @Value("${todo.sharding.maximum-pool-size:10}") int maximumPoolSize,
+                                                             @Value("${todo.sharding.connection-timeout:PT30S}") Duration connectionTimeout,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> shards = new ArrayList<>(urls.size());
+        for (int shard = 0; shard < urls.size(); shard++) {
+            HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(urls.get(shard))
+                    .username(username)
+                    .password(password)
+                    .build();
+            dataSource.setPoolName("todo-shard-" + shard);
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(dataSource);
+        }
+        log.info("Todo items sharded across {} databases", shards.size());
+        return new TodoShardRoutingDataSource(shards, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(TodoShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy shardsFlywayMigrationStrategy(TodoShardRoutingDataSource shardRoutingDataSource) {
+        return flyway -> shardRoutingDataSource.getShards().forEach(shard -> Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(shard)
+                .load()
+                .migrate());
+    }
+
+    @Bean
+    TodoShardRoutingAspect todoShardRoutingAspect(TodoShards todoShards, @Value("${todo.batch.max-size:1000}") int maxBatchSize) {
+        return new TodoShardRoutingAspect(todoShards, maxBatchSize);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.danieltnaves.todoservice.todo.sharding.configuration;
+
+import com.danieltnaves.todoservice.todo.TodoService;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
+import com.danieltnaves.todoservice.todo.sharding.NewItemShard;
+import com.danieltnaves.todoservice.todo.sharding.ShardKey;
+import com.danieltnaves.todoservice.todo.sharding.TodoShardContext;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Sets the shard of the {@code TodoService} calls before their transactions begin: the calls with a {@link ShardKey}
+ * run on the shard of the item and the batch changes are split by shard, with a transaction on each one. The calls
+ * without one, such as the list queries, query the shards themselves. The batches are validated as a whole before
+ * being split, and the changes without an id are answered here, with their position on the whole batch.
+ */
+@Aspect
+@Order(0)
+class TodoShardRoutingAspect {
+
+    private final TodoShards todoShards;
+
+    private final int maxBatchSize;
+
+    TodoShardRoutingAspect(TodoShards todoShards, int maxBatchSize) {
+        this.todoShards = todoShards;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Around("execution(public * com.danieltnaves.todoservice.todo.TodoService.*(..))")
+    public Object routeTodoServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TodoShardContext.getShard() != null) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (method.isAnnotationPresent(NewItemShard.class)) {
+            return proceedOnShard(joinPoint, todoShards.nextShard(), joinPoint.getArgs());
+        }
+        int shardKey = getShardKeyPosition(method);
+        if (shardKey < 0) {
+            return joinPoint.proceed();
+        }
+        Object key = joinPoint.getArgs()[shardKey];
+        if (key instanceof List<?> batch) {
+            return updateByShard(joinPoint, shardKey, batch);
+        }
+        return proceedOnShard(joinPoint, todoShards.shardOf((Long) key), joinPoint.getArgs());
+    }
+
+    private Object updateByShard(ProceedingJoinPoint joinPoint, int shardKey, List<?> batch) throws Throwable {
+        TodoService.validateBatchSize(batch, maxBatchSize);
+        Map<Integer, List<Integer>> positionsByShard = new TreeMap<>();
+        List<Integer> positionsWithoutId = new ArrayList<>();
+        for (int position = 0; position < batch.size(); position++) {
+            if (batch.get(position) instanceof TodoBatchUpdateDTO change && TodoService.hasBatchId(change)) {
+                positionsByShard.computeIfAbsent(todoShards.shardOf(change.id()), key -> new ArrayList<>()).add(position);
+            } else {
+                positionsWithoutId.add(position);
+            }
+        }
+        if (positionsByShard.size() <= 1) {
+            int shard = positionsByShard.isEmpty() ? 0 : positionsByShard.keySet().iterator().next();
+            return proceedOnShard(joinPoint, shard, joinPoint.getArgs());
+        }
+        TodoBatchUpdateResultDTO[] results = new TodoBatchUpdateResultDTO[batch.size()];
+        positionsWithoutId.forEach(position -> results[position] = TodoService.missingBatchIdResult(position));
+        for (Map.Entry<Integer, List<Integer>> shardPositions : positionsByShard.entrySet()) {
+            Object[] args = joinPoint.getArgs().clone();
+            args[shardKey] = shardPositions.getValue().stream().map(batch::get).toList();
+            List<?> shardResults = (List<?>) proceedOnShard(joinPoint, shardPositions.getKey(), args);
+            for (int i = 0; i < shardResults.size(); i++) {
+                results[shardPositions.getValue().get(i)] = (TodoBatchUpdateResultDTO) shardResults.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static Object proceedOnShard(ProceedingJoinPoint joinPoint, int shard, Object[] args) throws Throwable {
+        TodoShardContext.setShard(shard);
+        try {
+            return joinPoint.proceed(args);
+        } finally {
+            TodoShardContext.clear();
+        }
+    }
+
+    private static int getShardKeyPosition(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int position = 0; position < parameterAnnotations.length; position++) {
+            for (Annotation annotation : parameterAnnotations[position]) {
+                if (annotation instanceof ShardKey) {
+                    return position;
+                }
+            }
+        }
+        return -1;
+    }
+
+}
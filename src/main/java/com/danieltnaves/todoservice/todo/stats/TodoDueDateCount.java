@@ -0,0 +1,6 @@
+package com.danieltnaves.todoservice.todo.stats;
+
+import java.time.LocalDate;
+
+public record TodoDueDateCount(LocalDate dueDate, Long count) {
+}
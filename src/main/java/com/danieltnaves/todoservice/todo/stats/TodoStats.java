@@ -0,0 +1,111 @@
+package com.danieltnaves.todoservice.todo.stats;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoStatsDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.events.TodoStatusChangedEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts the Todo items by status and by due date without querying the TODO table. The counters are changed after the
+ * transaction that changed the items commits, and {@link TodoStatsReconciler} periodically corrects them against the
+ * table, so the counts may briefly drift when items are changed while a reconciliation runs.
+ */
+@Component
+public class TodoStats {
+
+    private final LongAdder[] statuses = new LongAdder[Todo.Status.values().length];
+
+    private final ConcurrentMap<LocalDate, LongAdder> dueDates = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime reconciledAt;
+
+    public TodoStats() {
+        for (int status = 0; status < statuses.length; status++) {
+            statuses[status] = new LongAdder();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChangedEvent(TodoChangedEvent event) {
+        count(event.getPreviousTodo(), -1);
+        count(event.getTodo(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoStatusChangedEvent(TodoStatusChangedEvent event) {
+        statuses[event.getPreviousStatus().ordinal()].add(-event.getChangedItems());
+        statuses[event.getStatus().ordinal()].add(event.getChangedItems());
+    }
+
+    private void count(TodoDTO todo, int items) {
+        if (ObjectUtils.isEmpty(todo)) {
+            return;
+        }
+        statuses[todo.status().toTodoStatus().ordinal()].add(items);
+        if (ObjectUtils.isNotEmpty(todo.dueAt())) {
+            dueDates.computeIfAbsent(todo.dueAt().toLocalDate(), dueDate -> new LongAdder()).add(items);
+        }
+    }
+
+    public TodoStatsDTO getStats() {
+        Map<TodoDTO.Status, Long> statusCounts = new EnumMap<>(TodoDTO.Status.class);
+        for (Todo.Status status : Todo.Status.values()) {
+            statusCounts.put(TodoDTO.Status.fromTodoStatus(status), statuses[status.ordinal()].sum());
+        }
+        SortedMap<LocalDate, Long> dueDateCounts = new TreeMap<>();
+        dueDates.forEach((dueDate, count) -> {
+            long sum = count.sum();
+            if (sum != 0) {
+                dueDateCounts.put(dueDate, sum);
+            }
+        });
+        return new TodoStatsDTO(statusCounts, dueDateCounts, reconciledAt);
+    }
+
+    /**
+     * Moves each counter by the difference between the table count and the counter value read just before the table
+     * was queried, which keeps the changes counted while the query was running.
+     */
+    public void reconcile(Snapshot snapshot, List<TodoStatusCount> statusCounts, List<TodoDueDateCount> dueDateCounts) {
+        long[] countedStatuses = new long[statuses.length];
+        statusCounts.forEach(statusCount -> countedStatuses[statusCount.status().ordinal()] += statusCount.count());
+        for (int status = 0; status < statuses.length; status++) {
+            statuses[status].add(countedStatuses[status] - snapshot.statuses()[status]);
+        }
+        Map<LocalDate, Long> countedDueDates = new HashMap<>(snapshot.dueDates().size());
+        snapshot.dueDates().keySet().forEach(dueDate -> countedDueDates.put(dueDate, 0L));
+        dueDateCounts.forEach(dueDateCount -> countedDueDates.merge(dueDateCount.dueDate(), dueDateCount.count(), Long::sum));
+        countedDueDates.forEach((dueDate, count) -> dueDates.computeIfAbsent(dueDate, key -> new LongAdder())
+                .add(count - snapshot.dueDates().getOrDefault(dueDate, 0L)));
+        reconciledAt = LocalDateTime.now();
+    }
+
+    public Snapshot snapshot() {
+        long[] statusCounts = new long[statuses.length];
+        for (int status = 0; status < statuses.length; status++) {
+            statusCounts[status] = statuses[status].sum();
+        }
+        Map<LocalDate, Long> dueDateCounts = new HashMap<>(dueDates.size());
+        dueDates.forEach((dueDate, count) -> dueDateCounts.put(dueDate, count.sum()));
+        return new Snapshot(statusCounts, dueDateCounts);
+    }
+
+    public record Snapshot(long[] statuses, Map<LocalDate, Long> dueDates) {
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.danieltnaves.todoservice.todo.stats;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Corrects the {@link TodoStats} counters against GROUP BY queries on the TODO table. The first run happens at startup,
+ * which also loads the counts of the items already stored. The queries run on the primary datasource, since the
+ * replication lag would undo the latest changes, and the counts of each shard are added up.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "todo.stats.reconciler.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoStatsReconciler {
+
+    private final TodoRepository todoRepository;
+
+    private final TodoStats todoStats;
+
+    private final TodoShards todoShards;
+
+    private final Timer runDuration;
+
+    public TodoStatsReconciler(TodoRepository todoRepository, TodoStats todoStats, TodoShards todoShards, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoStats = todoStats;
+        this.todoShards = todoShards;
+        this.runDuration = Timer.builder("todo.stats.reconciler.duration")
+                .description("Time spent by each run of the Todo stats reconciler")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.stats.reconciler.interval:PT5M}")
+    public void reconcile() {
+        runDuration.record(() -> PrimaryDataSourceContext.runOnPrimary(() -> {
+            TodoStats.Snapshot snapshot = todoStats.snapshot();
+            todoStats.reconcile(snapshot, flatten(todoShards.scatter(todoRepository::countByStatus)), flatten(todoShards.scatter(todoRepository::countByDueDate)));
+        }));
+        log.debug("Todo stats reconciled");
+    }
+
+    private static <T> List<T> flatten(List<List<T>> shardCounts) {
+        return shardCounts.stream().flatMap(List::stream).toList();
+    }
+
+}
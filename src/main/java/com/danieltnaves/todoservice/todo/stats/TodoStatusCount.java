@@ -0,0 +1,6 @@
+package com.danieltnaves.todoservice.todo.stats;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+
+public record TodoStatusCount(Todo.Status status, Long count) {
+}
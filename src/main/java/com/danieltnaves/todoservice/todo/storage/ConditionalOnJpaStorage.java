@@ -0,0 +1,17 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+/**
+ * Registers the bean only when the Todo items are stored on the TODO table, the default {@code todo.storage.backend},
+ * as the beans that need the relational database can't be created with the log storage.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ConditionalOnProperty(name = "todo.storage.backend", havingValue = "jpa", matchIfMissing = true)
+public @interface ConditionalOnJpaStorage {
+}
@@ -0,0 +1,348 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.GenericHttpException;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.stats.TodoDueDateCount;
+import com.danieltnaves.todoservice.todo.stats.TodoStatusCount;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * A {@link TodoRepository} on the {@link TodoLog}, for the deployments without a relational database. The lists walk
+ * the id index in order, so they only support sorting by id and an offset page skips its offset on the index. The
+ * filters on other columns, such as the due date, read every item with the status. The rejection specification of a
+ * patch can't run outside JPA, so the update rules are evaluated on the stored item instead, on the log write lock.
+ */
+public class LogTodoRepository implements TodoRepository {
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final String UNSUPPORTED_SORT_MESSAGE = "The Todo log storage only sorts the items by id, not by %s";
+
+    private static final String MISSING_COLUMNS_MESSAGE = "The description, status and createdAt of the Todo item %s must be provided";
+
+    private final TodoLog todoLog;
+
+    private final UpdateTodoItemRuleEngine updateTodoItemRuleEngine;
+
+    public LogTodoRepository(TodoLog todoLog, UpdateTodoItemRuleEngine updateTodoItemRuleEngine) {
+        this.todoLog = todoLog;
+        this.updateTodoItemRuleEngine = updateTodoItemRuleEngine;
+    }
+
+    @Override
+    public <S extends Todo> S save(S todo) {
+        return todoLog.write(writer -> {
+            checkTodoItems(writer, List.of(todo));
+            return saveTodoItem(writer, todo);
+        });
+    }
+
+    @Override
+    public <S extends Todo> Iterable<S> saveAll(Iterable<S> todos) {
+        List<S> todoList = StreamSupport.stream(todos.spliterator(), false).toList();
+        return todoLog.write(writer -> {
+            checkTodoItems(writer, todoList);
+            todoList.forEach(todo -> saveTodoItem(writer, todo));
+            return todoList;
+        });
+    }
+
+    /**
+     * Checks the columns and versions of every item before any of them is appended, as the records appended before an
+     * exception stay on the log and the items stored by a failed batch would never be published.
+     */
+    private static void checkTodoItems(TodoLog.Writer writer, List<? extends Todo> todos) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Todo todo : todos) {
+            if (ObjectUtils.anyNull(todo.getDescription(), todo.getStatus(), todo.getCreatedAt())) {
+                throw new DataIntegrityViolationException(String.format(MISSING_COLUMNS_MESSAGE, todo.getId()));
+            }
+            if (todo.getId() == null) {
+                continue;
+            }
+            Long storedVersion = versions.containsKey(todo.getId())
+                    ? versions.get(todo.getId())
+                    : writer.find(todo.getId()).map(Todo::getVersion).orElse(null);
+            if (storedVersion != null && todo.getVersion() != null && !todo.getVersion().equals(storedVersion)) {
+                throw new ObjectOptimisticLockingFailureException(Todo.class, todo.getId());
+            }
+            versions.put(todo.getId(), storedVersion != null ? storedVersion + 1 : ObjectUtils.defaultIfNull(todo.getVersion(), 0L));
+        }
+    }
+
+    private static <S extends Todo> S saveTodoItem(TodoLog.Writer writer, S todo) {
+        if (todo.getId() == null) {
+            todo.setId(writer.nextId());
+            todo.setVersion(0L);
+        } else {
+            Optional<Todo> storedTodo = writer.find(todo.getId());
+            todo.setVersion(storedTodo.map(stored -> stored.getVersion() + 1).orElse(ObjectUtils.defaultIfNull(todo.getVersion(), 0L)));
+        }
+        writer.put(todo);
+        return todo;
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return todoLog.find(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return todoLog.contains(id);
+    }
+
+    @Override
+    public Iterable<Todo> findAll() {
+        return findTodoItems(todoLog.ids().stream()).toList();
+    }
+
+    @Override
+    public Iterable<Todo> findAllById(Iterable<Long> ids) {
+        return findTodoItems(sortedIds(ids).stream()).toList();
+    }
+
+    @Override
+    public long count() {
+        return todoLog.count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        todoLog.write(writer -> writer.delete(id));
+    }
+
+    @Override
+    public void delete(Todo todo) {
+        deleteById(todo.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        todoLog.write(writer -> {
+            ids.forEach(writer::delete);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Todo> todos) {
+        deleteAllById(StreamSupport.stream(todos.spliterator(), false).map(Todo::getId).toList());
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllById(List.copyOf(todoLog.ids()));
+    }
+
+    @Override
+    public Iterable<Todo> findAll(Sort sort) {
+        return findTodoItems(orderedIds(todoLog.ids(), sort).stream()).toList();
+    }
+
+    @Override
+    public Page<Todo> findAll(Pageable pageable) {
+        return new PageImpl<>(findTodoItems(pageIds(todoLog.ids(), pageable)).toList(), pageable, todoLog.count());
+    }
+
+    @Override
+    public Optional<TodoDTO> findTodoDTOById(Long id) {
+        return todoLog.find(id).map(TodoDTO::fromTodoToTodoDTO);
+    }
+
+    @Override
+    public Page<TodoDTO> findAllTodoDTOs(Pageable pageable) {
+        return new PageImpl<>(findTodoDTOs(pageIds(todoLog.ids(), pageable)).toList(), pageable, todoLog.count());
+    }
+
+    @Override
+    public Page<TodoDTO> findAllTodoDTOsByStatus(Todo.Status status, Pageable pageable) {
+        return new PageImpl<>(findTodoDTOs(pageIds(todoLog.ids(status), pageable)).toList(), pageable, todoLog.count(status));
+    }
+
+    @Override
+    public List<TodoDTO> findTodoDTOsOrderedById(Pageable pageable) {
+        return findTodoDTOs(pageIds(todoLog.ids(), pageable)).toList();
+    }
+
+    @Override
+    public List<TodoDTO> findTodoDTOsByStatusOrderedById(Todo.Status status, Pageable pageable) {
+        return findTodoDTOs(pageIds(todoLog.ids(status), pageable)).toList();
+    }
+
+    @Override
+    public List<TodoDTO> findAllTodoDTOsByIds(Collection<Long> ids) {
+        return findTodoDTOs(sortedIds(ids).stream()).toList();
+    }
+
+    @Override
+    public Stream<TodoDTO> streamAllTodoDTOs() {
+        return findTodoDTOs(todoLog.ids().stream());
+    }
+
+    @Override
+    public List<TodoStatusCount> countByStatus() {
+        return Arrays.stream(Todo.Status.values())
+                .filter(status -> todoLog.count(status) > 0)
+                .map(status -> new TodoStatusCount(status, todoLog.count(status)))
+                .toList();
+    }
+
+    @Override
+    public List<TodoDueDateCount> countByDueDate() {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        findTodoItems(todoLog.ids().stream())
+                .filter(todo -> todo.getDueAt() != null)
+                .forEach(todo -> counts.merge(todo.getDueAt().toLocalDate(), 1L, Long::sum));
+        return counts.entrySet().stream().map(count -> new TodoDueDateCount(count.getKey(), count.getValue())).toList();
+    }
+
+    @Override
+    public Slice<TodoDTO> findTodoDTOsAfter(Long after, Pageable pageable) {
+        return findSliceAfter(todoLog.ids(), after, pageable);
+    }
+
+    @Override
+    public Slice<TodoDTO> findTodoDTOsByStatusAfter(Todo.Status status, Long after, Pageable pageable) {
+        return findSliceAfter(todoLog.ids(status), after, pageable);
+    }
+
+    private Slice<TodoDTO> findSliceAfter(NavigableSet<Long> ids, Long after, Pageable pageable) {
+        List<TodoDTO> todos = new ArrayList<>(findTodoDTOs(ids.tailSet(after, false).stream()).limit(pageable.getPageSize() + 1L).toList());
+        boolean hasNext = todos.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? todos.subList(0, pageable.getPageSize()) : todos, pageable, hasNext);
+    }
+
+    @Override
+    public List<Long> findIdsByStatusAndDueAtBefore(Todo.Status status, LocalDateTime dueAt, Pageable pageable) {
+        return findTodoItems(todoLog.ids(status).stream())
+                .filter(todo -> todo.getDueAt() != null && todo.getDueAt().isBefore(dueAt))
+                .limit(pageable.getPageSize())
+                .map(Todo::getId)
+                .toList();
+    }
+
+    @Override
+    public Stream<Todo> streamAll() {
+        return findTodoItems(todoLog.ids().stream());
+    }
+
+    @Override
+    public Stream<Todo> streamAllByStatus(Todo.Status status) {
+        return findTodoItems(todoLog.ids(status).stream());
+    }
+
+    @Override
+    public Stream<Todo> streamAllByStatusIn(Collection<Todo.Status> statuses) {
+        return findTodoItems(statuses.stream().distinct().flatMap(status -> todoLog.ids(status).stream()).sorted());
+    }
+
+    @Override
+    public int updateTodoStatusByIds(Collection<Long> ids, Todo.Status currentStatus, Todo.Status newStatus) {
+        return todoLog.write(writer -> {
+            int updatedItems = 0;
+            for (Long id : ids) {
+                Optional<Todo> todo = writer.find(id).filter(storedTodo -> currentStatus.equals(storedTodo.getStatus()));
+                if (todo.isPresent()) {
+                    todo.get().setStatus(newStatus);
+                    todo.get().setVersion(todo.get().getVersion() + 1);
+                    writer.put(todo.get());
+                    updatedItems++;
+                }
+            }
+            return updatedItems;
+        });
+    }
+
+    @Override
+    public int patchTodoItem(Long id, Long expectedVersion, Todo patch, Specification<Todo> rejection) {
+        return todoLog.write(writer -> {
+            Todo todo = writer.find(id).orElse(null);
+            if (todo == null || (expectedVersion != null && !expectedVersion.equals(todo.getVersion())) || isRejected(patch, rejection, todo)) {
+                return 0;
+            }
+            todo.setDescription(ObjectUtils.isNotEmpty(patch.getDescription()) ? patch.getDescription() : todo.getDescription());
+            todo.setStatus(ObjectUtils.isNotEmpty(patch.getStatus()) ? patch.getStatus() : todo.getStatus());
+            todo.setDueAt(ObjectUtils.isNotEmpty(patch.getDueAt()) ? patch.getDueAt() : todo.getDueAt());
+            todo.setDoneAt(patch.getDoneAt());
+            todo.setVersion(todo.getVersion() + 1);
+            writer.put(todo);
+            return 1;
+        });
+    }
+
+    private boolean isRejected(Todo patch, Specification<Todo> rejection, Todo todo) {
+        if (rejection == null) {
+            return false;
+        }
+        TodoDTO changes = TodoDTO.builder()
+                .description(patch.getDescription())
+                .status(ObjectUtils.isNotEmpty(patch.getStatus()) ? TodoDTO.Status.fromTodoStatus(patch.getStatus()) : null)
+                .dueAt(patch.getDueAt())
+                .build();
+        try {
+            updateTodoItemRuleEngine.evaluate(changes, todo);
+            return false;
+        } catch (GenericHttpException exception) {
+            return true;
+        }
+    }
+
+    private Stream<Todo> findTodoItems(Stream<Long> ids) {
+        return ids.map(todoLog::find).flatMap(Optional::stream);
+    }
+
+    private Stream<TodoDTO> findTodoDTOs(Stream<Long> ids) {
+        return findTodoItems(ids).map(TodoDTO::fromTodoToTodoDTO);
+    }
+
+    private static Stream<Long> pageIds(NavigableSet<Long> ids, Pageable pageable) {
+        Stream<Long> orderedIds = orderedIds(ids, pageable.getSort()).stream();
+        return pageable.isPaged() ? orderedIds.skip(pageable.getOffset()).limit(pageable.getPageSize()) : orderedIds;
+    }
+
+    private static NavigableSet<Long> orderedIds(NavigableSet<Long> ids, Sort sort) {
+        NavigableSet<Long> orderedIds = ids;
+        for (Sort.Order order : sort) {
+            if (!ID_PROPERTY.equals(order.getProperty())) {
+                throw new InvalidDataAccessApiUsageException(String.format(UNSUPPORTED_SORT_MESSAGE, order.getProperty()));
+            }
+            orderedIds = order.isAscending() ? ids : ids.descendingSet();
+        }
+        return orderedIds;
+    }
+
+    private static NavigableSet<Long> sortedIds(Iterable<? extends Long> ids) {
+        NavigableSet<Long> sortedIds = new TreeSet<>();
+        ids.forEach(sortedIds::add);
+        return sortedIds;
+    }
+
+}
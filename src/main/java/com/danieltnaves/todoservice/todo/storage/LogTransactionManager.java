@@ -0,0 +1,53 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The transaction manager of the {@link TodoLog} storage. Every write to the log is durable on its own, so the
+ * transactions have nothing to commit or roll back: they only scope the transaction synchronizations, such as the
+ * listeners of the events published after commit.
+ */
+public class LogTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new LogTransaction(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((LogTransaction) transaction).existing();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return transaction;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+    }
+
+    private record LogTransaction(boolean existing) {
+    }
+
+}
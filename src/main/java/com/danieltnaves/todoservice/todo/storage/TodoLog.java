@@ -0,0 +1,489 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the Todo items on an append-only log of memory-mapped {@link TodoLogSegment} files. Every change appends the
+ * whole item, or a delete record, to the active segment, and an in-memory index maps each id to the location of its
+ * latest record. The index is rebuilt on startup by replaying the segments in order, discarding a record torn by a
+ * crash at the end of the last one.
+ * <p>
+ * The writes are serialized by a lock and are durable when {@link #write} returns. With fsync enabled the writers that
+ * wait at the same time share a single force of the segment: the first one forces everything appended so far while
+ * the others wait for it. The sealed segments whose live records fall below a ratio are compacted by copying those
+ * records to the active segment and deleting the file.
+ */
+@Slf4j
+public class TodoLog implements MeterBinder, AutoCloseable {
+
+    private static final int DELETE_RECORD_SIZE = TodoLogRecords.size(TodoLogRecords.delete(0));
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final boolean fsync;
+
+    private final ConcurrentSkipListMap<Integer, TodoLogSegment> segments = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentSkipListMap<Long, Entry> index = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, Long> deletedIds = new ConcurrentHashMap<>();
+
+    private final Map<Todo.Status, NavigableSet<Long>> idsByStatus = new EnumMap<>(Todo.Status.class);
+
+    private final Map<Todo.Status, AtomicLong> countsByStatus = new EnumMap<>(Todo.Status.class);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final Writer writer = new LogWriter();
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final Condition synced = syncLock.newCondition();
+
+    private volatile TodoLogSegment activeSegment;
+
+    private volatile long appendedPosition;
+
+    private volatile long appendedRecords;
+
+    private long syncedPosition;
+
+    private long syncedRecords;
+
+    private boolean syncing;
+
+    private volatile Timer fsyncDuration;
+
+    private volatile DistributionSummary groupCommitRecords;
+
+    private volatile Counter compactedSegments;
+
+    public TodoLog(Path directory, int segmentSize, boolean fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        for (Todo.Status status : Todo.Status.values()) {
+            idsByStatus.put(status, new ConcurrentSkipListSet<>());
+            countsByStatus.put(status, new AtomicLong());
+        }
+        recover();
+    }
+
+    private void recover() {
+        List<Integer> segmentIds;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                segmentIds = files.mapToInt(TodoLogSegment::parseId).filter(id -> id >= 0).sorted().boxed().toList();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        for (int segmentId : segmentIds) {
+            TodoLogSegment segment = TodoLogSegment.open(directory, segmentId, segmentSize);
+            segments.put(segmentId, segment);
+            int end = segment.forEachRecord((offset, payload) -> replay(segment, offset, payload));
+            if (segment.isTorn(end)) {
+                log.warn("Discarding the torn record at offset {} of the Todo log segment {}", end, segmentId);
+                segment.truncate(end);
+            } else {
+                segment.setWritePosition(end);
+            }
+        }
+        activeSegment = segments.isEmpty() ? openSegment(1) : segments.lastEntry().getValue();
+        log.info("Todo log recovered from {} segments with {} items", segments.size(), count.get());
+    }
+
+    private void replay(TodoLogSegment segment, int offset, ByteBuffer payload) {
+        long id = TodoLogRecords.id(payload);
+        long location = location(segment.getId(), offset);
+        int size = TodoLogRecords.size(payload);
+        nextId.accumulateAndGet(id + 1, Math::max);
+        segment.addLiveBytes(size);
+        if (TodoLogRecords.type(payload) == TodoLogRecords.PUT) {
+            putEntry(id, new Entry(location, size, TodoLogRecords.status(payload)));
+        } else {
+            removeEntry(id, location);
+        }
+    }
+
+    private TodoLogSegment openSegment(int segmentId) {
+        TodoLogSegment segment = TodoLogSegment.open(directory, segmentId, segmentSize);
+        segments.put(segmentId, segment);
+        return segment;
+    }
+
+    public Optional<Todo> find(long id) {
+        Entry entry = index.get(id);
+        while (entry != null) {
+            ByteBuffer payload = readPayload(entry.location());
+            if (payload != null) {
+                return Optional.of(TodoLogRecords.toTodo(payload));
+            }
+            Entry relocatedEntry = index.get(id);
+            if (entry.equals(relocatedEntry)) {
+                throw new IllegalStateException(String.format("The record of the Todo item %d can't be read from the log", id));
+            }
+            entry = relocatedEntry;
+        }
+        return Optional.empty();
+    }
+
+    public boolean contains(long id) {
+        return index.containsKey(id);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long count(Todo.Status status) {
+        return countsByStatus.get(status).get();
+    }
+
+    /**
+     * Returns a live view of the stored ids in ascending order.
+     */
+    public NavigableSet<Long> ids() {
+        return Collections.unmodifiableNavigableSet(index.keySet());
+    }
+
+    /**
+     * Returns a live view of the ids of the items with the status in ascending order.
+     */
+    public NavigableSet<Long> ids(Todo.Status status) {
+        return Collections.unmodifiableNavigableSet(idsByStatus.get(status));
+    }
+
+    /**
+     * Runs the writes one caller at a time and returns once the appended records are durable. The records appended
+     * before an exception stay on the log.
+     */
+    public <R> R write(Function<Writer, R> writes) {
+        long position = 0;
+        writeLock.lock();
+        try {
+            return writes.apply(writer);
+        } finally {
+            position = appendedPosition;
+            writeLock.unlock();
+            sync(position);
+        }
+    }
+
+    private long append(ByteBuffer payload) {
+        int size = TodoLogRecords.size(payload);
+        if (size > segmentSize) {
+            throw new IllegalArgumentException(String.format("A record of %d bytes doesn't fit on a Todo log segment of %d bytes", size, segmentSize));
+        }
+        int offset = activeSegment.append(payload);
+        if (offset < 0) {
+            rollSegment();
+            offset = activeSegment.append(payload);
+        }
+        activeSegment.addLiveBytes(size);
+        appendedPosition += size;
+        appendedRecords++;
+        return location(activeSegment.getId(), offset);
+    }
+
+    private void rollSegment() {
+        TodoLogSegment sealedSegment = activeSegment;
+        if (fsync) {
+            sealedSegment.force();
+        }
+        activeSegment = openSegment(sealedSegment.getId() + 1);
+    }
+
+    private void sync(long position) {
+        if (!fsync) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (syncedPosition < position) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long targetPosition = appendedPosition;
+                long targetRecords = appendedRecords;
+                TodoLogSegment segment = activeSegment;
+                long records = targetRecords - syncedRecords;
+                boolean forced = false;
+                syncLock.unlock();
+                try {
+                    long startTime = System.nanoTime();
+                    segment.force();
+                    forced = true;
+                    recordSync(System.nanoTime() - startTime, records);
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    if (forced) {
+                        syncedPosition = targetPosition;
+                        syncedRecords = targetRecords;
+                    }
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void recordSync(long durationNanos, long records) {
+        Timer timer = fsyncDuration;
+        DistributionSummary summary = groupCommitRecords;
+        if (timer != null && summary != null) {
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+            summary.record(records);
+        }
+    }
+
+    private ByteBuffer readPayload(long location) {
+        TodoLogSegment segment = segments.get(segmentId(location));
+        return segment == null ? null : segment.read(offset(location));
+    }
+
+    private void putEntry(long id, Entry entry) {
+        Entry previousEntry = index.put(id, entry);
+        if (previousEntry == null) {
+            count.incrementAndGet();
+        } else {
+            releaseBytes(previousEntry.location(), previousEntry.size());
+        }
+        if (previousEntry == null || previousEntry.status() != entry.status()) {
+            if (previousEntry != null) {
+                idsByStatus.get(previousEntry.status()).remove(id);
+                countsByStatus.get(previousEntry.status()).decrementAndGet();
+            }
+            idsByStatus.get(entry.status()).add(id);
+            countsByStatus.get(entry.status()).incrementAndGet();
+        }
+        Long deleteLocation = deletedIds.remove(id);
+        if (deleteLocation != null) {
+            releaseBytes(deleteLocation, DELETE_RECORD_SIZE);
+        }
+    }
+
+    private void removeEntry(long id, long deleteLocation) {
+        Entry previousEntry = index.remove(id);
+        if (previousEntry != null) {
+            count.decrementAndGet();
+            idsByStatus.get(previousEntry.status()).remove(id);
+            countsByStatus.get(previousEntry.status()).decrementAndGet();
+            releaseBytes(previousEntry.location(), previousEntry.size());
+        }
+        Long previousDeleteLocation = deletedIds.put(id, deleteLocation);
+        if (previousDeleteLocation != null) {
+            releaseBytes(previousDeleteLocation, DELETE_RECORD_SIZE);
+        }
+    }
+
+    private void releaseBytes(long location, int size) {
+        TodoLogSegment segment = segments.get(segmentId(location));
+        if (segment != null) {
+            segment.addLiveBytes(-size);
+        }
+    }
+
+    /**
+     * Compacts the sealed segments whose live records take less than the ratio of their written bytes and returns the
+     * number of compacted segments. The live records are copied one at a time, so the writes only wait for a copy.
+     */
+    public int compact(double minLiveRatio) {
+        int compacted = 0;
+        for (TodoLogSegment segment : List.copyOf(segments.headMap(activeSegment.getId()).values())) {
+            if (segment.getLiveBytes() < minLiveRatio * segment.getWritePosition()) {
+                compactSegment(segment);
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+
+    private void compactSegment(TodoLogSegment segment) {
+        long startTime = System.nanoTime();
+        segment.forEachRecord((offset, payload) -> relocate(segment, location(segment.getId(), offset), payload));
+        long position;
+        writeLock.lock();
+        try {
+            segments.remove(segment.getId());
+            position = appendedPosition;
+        } finally {
+            writeLock.unlock();
+        }
+        sync(position);
+        segment.delete();
+        Counter counter = compactedSegments;
+        if (counter != null) {
+            counter.increment();
+        }
+        log.info("Todo log segment {} compacted in {} ms", segment.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private void relocate(TodoLogSegment segment, long location, ByteBuffer payload) {
+        long id = TodoLogRecords.id(payload);
+        writeLock.lock();
+        try {
+            if (TodoLogRecords.type(payload) == TodoLogRecords.PUT) {
+                Entry entry = index.get(id);
+                if (entry != null && entry.location() == location) {
+                    index.put(id, new Entry(append(payload), entry.size(), entry.status()));
+                    segment.addLiveBytes(-entry.size());
+                }
+            } else if (Long.valueOf(location).equals(deletedIds.get(id))) {
+                // The delete record only hides the older records of the id, so it goes away with the oldest segment.
+                if (segments.firstKey() == segment.getId()) {
+                    deletedIds.remove(id);
+                } else {
+                    deletedIds.put(id, append(payload));
+                }
+                segment.addLiveBytes(-DELETE_RECORD_SIZE);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (fsync) {
+                activeSegment.force();
+            }
+            segments.values().forEach(TodoLogSegment::close);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.storage.log.segments", segments, Map::size)
+                .description("Segment files of the Todo log")
+                .register(registry);
+        Gauge.builder("todo.storage.log.bytes", this, todoLog -> todoLog.getBytes(false))
+                .description("Bytes written to the Todo log segments")
+                .tag("records", "all")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("todo.storage.log.bytes", this, todoLog -> todoLog.getBytes(true))
+                .description("Bytes of the latest record of each item on the Todo log segments")
+                .tag("records", "live")
+                .baseUnit("bytes")
+                .register(registry);
+        fsyncDuration = Timer.builder("todo.storage.log.fsync")
+                .description("Time spent forcing the Todo log segment to the disk")
+                .register(registry);
+        groupCommitRecords = DistributionSummary.builder("todo.storage.log.group-commit")
+                .description("Records made durable by each force of the Todo log segment")
+                .baseUnit("records")
+                .register(registry);
+        compactedSegments = Counter.builder("todo.storage.log.compactions")
+                .description("Todo log segments compacted")
+                .register(registry);
+    }
+
+    private double getBytes(boolean live) {
+        return segments.values().stream().mapToLong(segment -> live ? segment.getLiveBytes() : segment.getWritePosition()).sum();
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    /**
+     * The writes of a {@link TodoLog#write} call. The puts and deletes are visible to the readers right away.
+     */
+    public interface Writer {
+
+        Optional<Todo> find(long id);
+
+        long nextId();
+
+        void put(Todo todo);
+
+        boolean delete(long id);
+
+    }
+
+    private class LogWriter implements Writer {
+
+        @Override
+        public Optional<Todo> find(long id) {
+            return TodoLog.this.find(id);
+        }
+
+        @Override
+        public long nextId() {
+            return nextId.getAndIncrement();
+        }
+
+        @Override
+        public void put(Todo todo) {
+            ByteBuffer payload = TodoLogRecords.put(todo);
+            nextId.accumulateAndGet(todo.getId() + 1, Math::max);
+            putEntry(todo.getId(), new Entry(append(payload), TodoLogRecords.size(payload), todo.getStatus()));
+        }
+
+        @Override
+        public boolean delete(long id) {
+            if (!index.containsKey(id)) {
+                return false;
+            }
+            removeEntry(id, append(TodoLogRecords.delete(id)));
+            return true;
+        }
+
+    }
+
+    private record Entry(long location, int size, Todo.Status status) {
+    }
+
+}
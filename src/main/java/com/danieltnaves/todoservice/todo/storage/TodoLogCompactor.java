@@ -0,0 +1,29 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Compacts the sealed {@link TodoLog} segments whose live records fell below min-live-ratio of their size.
+ */
+@Slf4j
+public class TodoLogCompactor {
+
+    private final TodoLog todoLog;
+
+    private final double minLiveRatio;
+
+    public TodoLogCompactor(TodoLog todoLog, double minLiveRatio) {
+        this.todoLog = todoLog;
+        this.minLiveRatio = minLiveRatio;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.storage.log.compaction.interval:PT5M}")
+    public void compact() {
+        int compactedSegments = todoLog.compact(minLiveRatio);
+        if (compactedSegments > 0) {
+            log.info("{} Todo log segments compacted", compactedSegments);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Encodes the {@link TodoLog} record payloads. A put record carries the whole item, with the dates as UTC epoch
+ * microseconds, the precision of the TODO table columns. A delete record only carries the id.
+ */
+final class TodoLogRecords {
+
+    static final byte PUT = 1;
+
+    static final byte DELETE = 2;
+
+    private static final int PUT_FIXED_SIZE = 1 + 8 + 8 + 1 + 8 + 8 + 8 + 4;
+
+    private static final int DELETE_SIZE = 1 + 8;
+
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private static final Todo.Status[] STATUSES = Todo.Status.values();
+
+    private TodoLogRecords() {
+    }
+
+    static ByteBuffer put(Todo todo) {
+        byte[] description = todo.getDescription().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(PUT_FIXED_SIZE + description.length)
+                .put(PUT)
+                .putLong(todo.getId())
+                .putLong(todo.getVersion())
+                .put((byte) todo.getStatus().ordinal())
+                .putLong(toEpochMicros(todo.getCreatedAt()))
+                .putLong(toEpochMicros(todo.getDoneAt()))
+                .putLong(toEpochMicros(todo.getDueAt()))
+                .putInt(description.length)
+                .put(description)
+                .flip();
+    }
+
+    static ByteBuffer delete(long id) {
+        return ByteBuffer.allocate(DELETE_SIZE)
+                .put(DELETE)
+                .putLong(id)
+                .flip();
+    }
+
+    static byte type(ByteBuffer payload) {
+        return payload.get(0);
+    }
+
+    static long id(ByteBuffer payload) {
+        return payload.getLong(1);
+    }
+
+    static Todo.Status status(ByteBuffer payload) {
+        return STATUSES[payload.get(17)];
+    }
+
+    static Todo toTodo(ByteBuffer payload) {
+        ByteBuffer record = payload.duplicate();
+        record.position(1);
+        Long id = record.getLong();
+        Long version = record.getLong();
+        Todo.Status status = STATUSES[record.get()];
+        LocalDateTime createdAt = fromEpochMicros(record.getLong());
+        LocalDateTime doneAt = fromEpochMicros(record.getLong());
+        LocalDateTime dueAt = fromEpochMicros(record.getLong());
+        byte[] description = new byte[record.getInt()];
+        record.get(description);
+        return new Todo(id, new String(description, StandardCharsets.UTF_8), status, createdAt, doneAt, dueAt, version);
+    }
+
+    static int size(ByteBuffer payload) {
+        return TodoLogSegment.HEADER_SIZE + payload.remaining();
+    }
+
+    private static long toEpochMicros(LocalDateTime date) {
+        if (date == null) {
+            return NULL_DATE;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), date);
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        if (epochMicros == NULL_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L), (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * A memory-mapped segment file of the {@link TodoLog}. Each record is stored as its payload length, the CRC32 of the
+ * payload and the payload. The file is mapped at its full capacity up front, so a zero length marks the end of the
+ * records. Only the thread holding the log write lock appends; the reads use absolute offsets and need no lock.
+ */
+class TodoLogSegment {
+
+    static final int HEADER_SIZE = 8;
+
+    private static final String FILE_NAME_FORMAT = "segment-%010d.log";
+
+    private final int id;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final AtomicLong liveBytes = new AtomicLong();
+
+    private volatile int writePosition;
+
+    private TodoLogSegment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static TodoLogSegment open(Path directory, int id, int capacity) {
+        Path path = directory.resolve(String.format(FILE_NAME_FORMAT, id));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int size = (int) Math.max(channel.size(), capacity);
+            return new TodoLogSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    static int parseId(Path path) {
+        String fileName = path.getFileName().toString();
+        if (!fileName.startsWith("segment-") || !fileName.endsWith(".log")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(fileName, "segment-".length(), fileName.length() - ".log".length(), 10);
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    long getLiveBytes() {
+        return liveBytes.get();
+    }
+
+    void addLiveBytes(long bytes) {
+        liveBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Appends the record and returns its offset, or -1 when the segment has no room left for it.
+     */
+    int append(ByteBuffer payload) {
+        int payloadLength = payload.remaining();
+        int offset = writePosition;
+        if ((long) offset + HEADER_SIZE + payloadLength > buffer.capacity()) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        buffer.put(offset + HEADER_SIZE, payload, payload.position(), payloadLength);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, payloadLength);
+        writePosition = offset + HEADER_SIZE + payloadLength;
+        return offset;
+    }
+
+    /**
+     * Returns the payload of the record at the offset, or null when there is no complete record there.
+     */
+    ByteBuffer read(int offset) {
+        if (offset < 0 || (long) offset + HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+        int payloadLength = buffer.getInt(offset);
+        if (payloadLength <= 0 || (long) offset + HEADER_SIZE + payloadLength > buffer.capacity()) {
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(offset + HEADER_SIZE, payloadLength);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue() == buffer.getInt(offset + 4) ? payload : null;
+    }
+
+    /**
+     * Calls the consumer with the offset and payload of each record and returns the offset after the last one.
+     */
+    int forEachRecord(RecordConsumer consumer) {
+        int offset = 0;
+        ByteBuffer payload;
+        while ((payload = read(offset)) != null) {
+            consumer.accept(offset, payload);
+            offset += HEADER_SIZE + payload.remaining();
+        }
+        return offset;
+    }
+
+    /**
+     * Returns whether there are bytes of an incomplete or corrupted record at the offset.
+     */
+    boolean isTorn(int offset) {
+        return (long) offset + HEADER_SIZE <= buffer.capacity() && (buffer.getInt(offset) != 0 || buffer.getInt(offset + 4) != 0);
+    }
+
+    /**
+     * Moves the write position to the offset and clears the bytes after it, discarding a record torn by a crash.
+     */
+    void truncate(int offset) {
+        byte[] zeros = new byte[8192];
+        for (int position = offset; position < buffer.capacity(); position += zeros.length) {
+            buffer.put(position, zeros, 0, Math.min(zeros.length, buffer.capacity() - position));
+        }
+        writePosition = offset;
+    }
+
+    void setWritePosition(int offset) {
+        writePosition = offset;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+
+        void accept(int offset, ByteBuffer payload);
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.danieltnaves.todoservice.todo.storage.configuration;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.storage.LogTodoRepository;
+import com.danieltnaves.todoservice.todo.storage.LogTransactionManager;
+import com.danieltnaves.todoservice.todo.storage.TodoLog;
+import com.danieltnaves.todoservice.todo.storage.TodoLogCompactor;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Stores the Todo items on the append-only {@link TodoLog} under {@code todo.storage.log.directory} instead of the
+ * TODO table, with no relational database: the {@link LogStorageEnvironmentPostProcessor} leaves out the DataSource,
+ * JPA and Flyway auto-configuration. The log storage has a single node, so sharding can't be combined with it, and
+ * the outbox is a table of the relational database, so it must be disabled.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "todo.storage.backend", havingValue = "log")
+public class LogStorageConfiguration {
+
+    static final String SHARDING_NOT_SUPPORTED_MESSAGE = "todo.sharding.enabled can't be combined with todo.storage.backend=log";
+
+    static final String OUTBOX_NOT_SUPPORTED_MESSAGE = "todo.outbox.enabled can't be combined with todo.storage.backend=log";
+
+    public LogStorageConfiguration(@Value("${todo.sharding.enabled:false}") boolean shardingEnabled,
+                                   @Value("${todo.outbox.enabled:true}") boolean outboxEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException(SHARDING_NOT_SUPPORTED_MESSAGE);
+        }
+        if (outboxEnabled) {
+            throw new IllegalStateException(OUTBOX_NOT_SUPPORTED_MESSAGE);
+        }
+    }
+
+    @Bean(destroyMethod = "close")
+    public TodoLog todoLog(@Value("${todo.storage.log.directory:data/todo-log}") String directory,
+                           @Value("${todo.storage.log.segment-size:64MB}") DataSize segmentSize,
+                           @Value("${todo.storage.log.fsync:true}") boolean fsync) {
+        log.info("Todo items stored on the log at {}", Path.of(directory).toAbsolutePath());
+        return new TodoLog(Path.of(directory), Math.toIntExact(segmentSize.toBytes()), fsync);
+    }
+
+    @Bean
+    @Primary
+    public TodoRepository logTodoRepository(TodoLog todoLog, UpdateTodoItemRuleEngine updateTodoItemRuleEngine) {
+        return new LogTodoRepository(todoLog, updateTodoItemRuleEngine);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new LogTransactionManager();
+    }
+
+    @Bean
+    public TodoLogCompactor todoLogCompactor(TodoLog todoLog, @Value("${todo.storage.log.compaction.min-live-ratio:0.5}") double minLiveRatio) {
+        return new TodoLogCompactor(todoLog, minLiveRatio);
+    }
+
+}
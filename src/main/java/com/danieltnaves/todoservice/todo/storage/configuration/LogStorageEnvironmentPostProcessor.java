@@ -0,0 +1,40 @@
+package com.danieltnaves.todoservice.todo.storage.configuration;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.StringUtils;
+
+/**
+ * Leaves the relational database out of the deployments storing the Todo items on the log, by excluding the
+ * DataSource, JPA and Flyway auto-configuration when {@code todo.storage.backend=log}. The exclusions already set on
+ * {@code spring.autoconfigure.exclude} are kept.
+ */
+public class LogStorageEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    private static final List<Class<?>> DATABASE_AUTO_CONFIGURATIONS = List.of(DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class, FlywayAutoConfiguration.class);
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!"log".equals(environment.getProperty("todo.storage.backend"))) {
+            return;
+        }
+        Set<String> exclusions = new LinkedHashSet<>(StringUtils.commaDelimitedListToSet(environment.getProperty(EXCLUDE_PROPERTY, "")));
+        DATABASE_AUTO_CONFIGURATIONS.forEach(autoConfiguration -> exclusions.add(autoConfiguration.getName()));
+        environment.getPropertySources().addFirst(new MapPropertySource("todoLogStorage",
+                Map.of(EXCLUDE_PROPERTY, StringUtils.collectionToCommaDelimitedString(exclusions))));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.danieltnaves.todoservice.todo.sweeper;
+
+import com.danieltnaves.todoservice.todo.TodoService;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flips every NOT_DONE item with an expired dueAt date to PAST_DUE. Each chunk is updated on its own
+ * short transaction, so the sweeper never holds locks on more than chunk-size rows at once. The shards are swept at
+ * the same time.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "todo.past-due.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class PastDueItemsSweeper {
+
+    private final TodoService todoService;
+
+    private final TodoShards todoShards;
+
+    private final int chunkSize;
+
+    private final Timer runDuration;
+
+    private final DistributionSummary updatedItemsPerRun;
+
+    public PastDueItemsSweeper(TodoService todoService, TodoShards todoShards, MeterRegistry meterRegistry,
+                               @Value("${todo.past-due.sweeper.chunk-size:500}") int chunkSize) {
+        this.todoService = todoService;
+        this.todoShards = todoShards;
+        this.chunkSize = chunkSize;
+        this.runDuration = Timer.builder("todo.past-due.sweeper.duration")
+                .description("Time spent by each run of the past due items sweeper")
+                .register(meterRegistry);
+        this.updatedItemsPerRun = DistributionSummary.builder("todo.past-due.sweeper.items")
+                .description("Todo items updated to PAST_DUE by each run of the past due items sweeper")
+                .baseUnit("items")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.past-due.sweeper.interval:PT1M}")
+    public void sweep() {
+        Timer.Sample sample = Timer.start();
+        int updatedItems = updatePastDueItems();
+        sample.stop(runDuration);
+        updatedItemsPerRun.record(updatedItems);
+        if (updatedItems > 0) {
+            log.info("{} Todo items updated to PAST_DUE by the sweeper", updatedItems);
+        }
+    }
+
+    private int updatePastDueItems() {
+        LocalDateTime now = LocalDateTime.now();
+        return todoShards.scatter(() -> updatePastDueItems(now)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private int updatePastDueItems(LocalDateTime now) {
+        int updatedItems = 0;
+        int updatedChunkItems;
+        do {
+            updatedChunkItems = todoService.updatePastDueItems(now, chunkSize);
+            updatedItems += updatedChunkItems;
+        } while (updatedChunkItems == chunkSize);
+        return updatedItems;
+    }
+
+}
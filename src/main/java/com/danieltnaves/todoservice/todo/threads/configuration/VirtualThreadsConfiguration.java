@@ -0,0 +1,43 @@
+package com.danieltnaves.todoservice.todo.threads.configuration;
+
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Runs the servlet requests, the asynchronous MVC requests and the scheduled tasks on virtual threads.
+ * The number of requests blocked on the database is then bounded only by the Hikari connection pool.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "todo.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        log.info("Tomcat requests will be handled on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("todo-http-", 0).factory()));
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+        taskExecutor.setThreadFactory(Thread.ofVirtual().name("todo-async-", 0).factory());
+        return taskExecutor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setThreadFactory(Thread.ofVirtual().name("todo-scheduling-", 0).factory());
+        return taskScheduler;
+    }
+
+}
@@ -0,0 +1,12 @@
+CREATE SEQUENCE TODO_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE TODO (
+    ID BIGINT NOT NULL,
+    DESCRIPTION VARCHAR(255) NOT NULL,
+    STATUS TINYINT NOT NULL CHECK (STATUS BETWEEN 0 AND 2),
+    CREATED_AT TIMESTAMP(6) NOT NULL,
+    DONE_AT TIMESTAMP(6),
+    DUE_AT TIMESTAMP(6),
+    VERSION BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_TODO PRIMARY KEY (ID)
+);
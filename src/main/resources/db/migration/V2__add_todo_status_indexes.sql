@@ -0,0 +1,5 @@
+-- Serves the listing of the items by status, paginated by offset or by id cursor.
+CREATE INDEX IDX_TODO_STATUS_ID ON TODO (STATUS, ID);
+
+-- Serves the selection of the expired NOT_DONE items by the past due items sweeper.
+CREATE INDEX IDX_TODO_STATUS_DUE_AT ON TODO (STATUS, DUE_AT);
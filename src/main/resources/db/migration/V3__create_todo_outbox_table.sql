@@ -0,0 +1,11 @@
+-- Events written on the transaction of their caller and relayed in batches by id order. An item has at most one
+-- pending event of each type.
+CREATE TABLE TODO_OUTBOX (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    EVENT_TYPE VARCHAR(64) NOT NULL,
+    AGGREGATE_ID BIGINT NOT NULL,
+    CREATED_AT TIMESTAMP(6) NOT NULL,
+    ATTEMPTS INT DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_TODO_OUTBOX PRIMARY KEY (ID),
+    CONSTRAINT UK_TODO_OUTBOX_EVENT UNIQUE (EVENT_TYPE, AGGREGATE_ID)
+);
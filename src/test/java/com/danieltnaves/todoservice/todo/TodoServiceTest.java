@@ -8,21 +8,44 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateDTO;
+import com.danieltnaves.todoservice.todo.api.TodoBatchUpdateResultDTO;
+import com.danieltnaves.todoservice.todo.api.TodoCursor;
+import com.danieltnaves.todoservice.todo.api.TodoCursorPage;
 import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.cache.TodoCache;
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
 import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.ConcurrentTodoItemUpdateException;
 import com.danieltnaves.todoservice.todo.errors.InvalidInputException;
 import com.danieltnaves.todoservice.todo.errors.TodoItemNotFoundException;
+import com.danieltnaves.todoservice.todo.errors.TodoItemVersionMismatchException;
 import com.danieltnaves.todoservice.todo.errors.UpdateDoneTodoItemException;
 import com.danieltnaves.todoservice.todo.errors.UpdatePastDueException;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
 import com.danieltnaves.todoservice.todo.events.TodoEventPublisherService;
+import com.danieltnaves.todoservice.todo.events.TodoStatusChangedEvent;
+import com.danieltnaves.todoservice.todo.readmodel.TodoReadModel;
 import com.danieltnaves.todoservice.todo.rules.PastDueUpdateWithFutureDateRuleUpdate;
 import com.danieltnaves.todoservice.todo.rules.UpdateDoneUpdateTodoItemRule;
 import com.danieltnaves.todoservice.todo.rules.UpdatePastDueTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
 import com.danieltnaves.todoservice.todo.rules.baserule.UpdateTodoItemRule;
+import com.danieltnaves.todoservice.todo.search.TodoSearchIndex;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +53,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 
 class TodoServiceTest {
 
@@ -37,18 +62,30 @@ class TodoServiceTest {
 
     public static final String GO_TO_THE_MALL = "Go to the mall";
 
+    public static final int MAX_BATCH_SIZE = 3;
+
     TodoRepository todoRepository;
 
     TodoService todoService;
 
     TodoEventPublisherService todoEventPublisherService;
 
+    TodoCache todoCache;
+
+    TodoSearchIndex todoSearchIndex;
+
+    TodoReadModel todoReadModel;
+
     @BeforeEach
     void setUp() {
         todoRepository = mock(TodoRepository.class);
         todoEventPublisherService = mock(TodoEventPublisherService.class);
         List<UpdateTodoItemRule> updateTodoItemRules = List.of(new PastDueUpdateWithFutureDateRuleUpdate(), new UpdatePastDueTodoItemRule(), new UpdateDoneUpdateTodoItemRule());
-        todoService = new TodoService(todoRepository, todoEventPublisherService, updateTodoItemRules);
+        todoSearchIndex = mock(TodoSearchIndex.class);
+        todoReadModel = mock(TodoReadModel.class);
+        todoCache = new TodoCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        todoService = new TodoService(todoRepository, todoEventPublisherService, new UpdateTodoItemRuleEngine(updateTodoItemRules, new SimpleMeterRegistry()), todoCache, todoSearchIndex, new TodoShards(false, List.of()), todoReadModel, new SimpleMeterRegistry(),
+                false, MAX_BATCH_SIZE);
     }
 
     @Test
@@ -65,12 +102,38 @@ class TodoServiceTest {
         assertThrows(InvalidInputException.class, () -> todoService.addTodoItem(getTodoDTOWithoutDescription()));
     }
 
+    @Test
+    void testAddTodoItems() {
+        List<TodoDTO> addedTodos = todoService.addTodoItems(List.of(getNewTodoDTO(), getChangedTodoDTO()));
+        assertThat(addedTodos, hasSize(2));
+        assertThat(addedTodos.get(0).description(), is(GO_TO_GROCERY_STORE));
+        assertThat(addedTodos.get(1).description(), is(GO_TO_THE_MALL));
+        assertThat(addedTodos.get(1).status(), is(TodoDTO.Status.NOT_DONE));
+        verify(todoRepository).saveAll(anyList());
+    }
+
+    @Test
+    void testTodoItemsAdditionWithMissingDescription() {
+        assertThrows(InvalidInputException.class, () -> todoService.addTodoItems(List.of(getNewTodoDTO(), getTodoDTOWithoutDescription())));
+        verify(todoRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testTodoItemsAdditionAboveTheMaxBatchSize() {
+        assertThrows(InvalidInputException.class, () -> todoService.addTodoItems(List.of(getNewTodoDTO(), getNewTodoDTO(), getNewTodoDTO(), getNewTodoDTO())));
+    }
+
+    @Test
+    void testTodoItemsAdditionWithoutItems() {
+        assertThrows(InvalidInputException.class, () -> todoService.addTodoItems(List.of()));
+    }
+
     @Test
     void testTodoChangeDescription() {
         Todo todo = getNotDoneTodoItem();
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(todo));
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(todo)));
         todo.setDescription(GO_TO_THE_MALL);
-        when(todoRepository.save(todo)).thenReturn(todo);
+        when(todoRepository.patchTodoItem(eq(1L), isNull(), any(Todo.class), any())).thenReturn(1);
         TodoDTO todoDTO = getChangedTodoDTO();
         Todo changedTodo = TodoDTO.fromTodoDTOToTodo(todoService.updateTodoItem(1L, todoDTO));
         assertThat(changedTodo.getDescription(), is(GO_TO_THE_MALL));
@@ -78,29 +141,161 @@ class TodoServiceTest {
         assertThat(changedTodo.getDueAt(), is(greaterThan(LocalDateTime.now())));
     }
 
+    @Test
+    void testTodoChangeWithExpectedVersion() {
+        Todo todo = getNotDoneTodoItem();
+        todo.setVersion(3L);
+        when(todoRepository.patchTodoItem(eq(1L), eq(3L), any(Todo.class), any())).thenReturn(1);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(todo)));
+        assertThat(todoService.updateTodoItem(1L, 3L, getChangedTodoDTO()).version(), is(4L));
+    }
+
+    @Test
+    void testTodoChangeWithOutdatedVersion() {
+        Todo todo = getNotDoneTodoItem();
+        todo.setVersion(4L);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(todo)));
+        assertThrows(TodoItemVersionMismatchException.class, () -> todoService.updateTodoItem(1L, 3L, getChangedTodoDTO()));
+        verify(todoRepository, never()).patchTodoItem(any(), any(), any(), any());
+        verify(todoEventPublisherService, never()).publishTodoChangedEvent(any(), any());
+    }
+
+    @Test
+    void testTodoChangeRacingWithAnotherChange() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodoItem())));
+        assertThrows(ConcurrentTodoItemUpdateException.class, () -> todoService.updateTodoItem(1L, getChangedTodoDTO()));
+        verify(todoRepository, times(3)).patchTodoItem(eq(1L), isNull(), any(Todo.class), any());
+        verify(todoEventPublisherService, never()).publishTodoChangedEvent(any(), any());
+    }
+
+    @Test
+    void testTodoChangesWithoutExpectedVersionAreReappliedAfterAnotherChange() {
+        Todo firstRead = getNotDoneTodoItem();
+        firstRead.setVersion(0L);
+        Todo secondRead = getNotDoneTodoItem();
+        secondRead.setVersion(1L);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(firstRead)), Optional.of(TodoDTO.fromTodoToTodoDTO(secondRead)));
+        when(todoRepository.patchTodoItem(eq(1L), eq(0L), any(Todo.class), any())).thenReturn(0);
+        when(todoRepository.patchTodoItem(eq(1L), eq(1L), any(Todo.class), any())).thenReturn(1);
+        TodoDTO changedTodo = todoService.updateTodoItem(1L, getChangedTodoDTO());
+        assertThat(changedTodo.version(), is(2L));
+        assertThat(changedTodo.description(), is(GO_TO_THE_MALL));
+        verify(todoEventPublisherService).publishTodoChangedEvent(eq(TodoDTO.fromTodoToTodoDTO(secondRead)), any());
+    }
+
+    @Test
+    void testTodoChangeWithExpectedVersionRacingWithAnotherChangeIsNotReapplied() {
+        Todo firstRead = getNotDoneTodoItem();
+        firstRead.setVersion(3L);
+        Todo secondRead = getNotDoneTodoItem();
+        secondRead.setVersion(4L);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(firstRead)), Optional.of(TodoDTO.fromTodoToTodoDTO(secondRead)));
+        assertThrows(TodoItemVersionMismatchException.class, () -> todoService.updateTodoItem(1L, 3L, getChangedTodoDTO()));
+        verify(todoRepository, times(1)).patchTodoItem(any(), any(), any(), any());
+    }
+
+    @Test
+    void testTodoItemsChange() {
+        Todo notDoneTodo = getNotDoneTodoItem();
+        Todo doneTodo = getDoneTodo(LocalDateTime.now());
+        doneTodo.setId(2L);
+        when(todoRepository.findAllById(any())).thenReturn(List.of(notDoneTodo, doneTodo));
+        when(todoRepository.patchTodoItem(eq(1L), isNull(), any(Todo.class), any())).thenReturn(1);
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(List.of(
+                new TodoBatchUpdateDTO(1L, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(2L, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(3L, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(1L, null)));
+        assertThat(results, hasSize(4));
+        assertThat(results.get(0).httpStatus(), is(HttpStatus.OK));
+        assertThat(results.get(0).todo().description(), is(GO_TO_THE_MALL));
+        assertThat(results.get(1).httpStatus(), is(HttpStatus.BAD_REQUEST));
+        assertThat(doneTodo.getDescription(), is(GO_TO_GROCERY_STORE));
+        assertThat(results.get(2).httpStatus(), is(HttpStatus.NOT_FOUND));
+        assertThat(results.get(3).httpStatus(), is(HttpStatus.BAD_REQUEST));
+        verify(todoRepository, times(1)).patchTodoItem(any(), any(), any(), any());
+        verify(todoRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testTodoItemsChangeRacingWithAnotherChange() {
+        Todo firstTodo = getNotDoneTodoItem();
+        firstTodo.setVersion(3L);
+        Todo secondTodo = getNotDoneTodoItem();
+        secondTodo.setId(2L);
+        secondTodo.setVersion(5L);
+        when(todoRepository.findAllById(any())).thenReturn(List.of(firstTodo, secondTodo));
+        when(todoRepository.patchTodoItem(eq(1L), eq(3L), any(Todo.class), any())).thenReturn(0);
+        when(todoRepository.patchTodoItem(eq(2L), eq(5L), any(Todo.class), any())).thenReturn(1);
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(List.of(
+                new TodoBatchUpdateDTO(1L, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(2L, getChangedTodoDTO())));
+        assertThat(results.get(0).httpStatus(), is(HttpStatus.CONFLICT));
+        assertThat(results.get(0).message(), is(String.format(TodoService.CONCURRENT_TODO_ITEM_UPDATE_MESSAGE, 1L)));
+        assertThat(results.get(1).httpStatus(), is(HttpStatus.OK));
+        assertThat(results.get(1).todo().version(), is(6L));
+        verify(todoEventPublisherService, times(1)).publishTodoChangedEvent(any(), any());
+    }
+
+    @Test
+    void testRepeatedTodoItemsChangeTheVersionOfThePreviousChange() {
+        Todo todo = getNotDoneTodoItem();
+        todo.setVersion(3L);
+        when(todoRepository.findAllById(any())).thenReturn(List.of(todo));
+        when(todoRepository.patchTodoItem(eq(1L), eq(3L), any(Todo.class), any())).thenReturn(1);
+        when(todoRepository.patchTodoItem(eq(1L), eq(4L), any(Todo.class), any())).thenReturn(1);
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(List.of(
+                new TodoBatchUpdateDTO(1L, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(1L, getNewTodoDTO())));
+        assertThat(results.get(1).httpStatus(), is(HttpStatus.OK));
+        assertThat(results.get(1).todo().version(), is(5L));
+        assertThat(results.get(1).todo().description(), is(GO_TO_GROCERY_STORE));
+    }
+
+    @Test
+    void testTodoItemsChangeWithoutIds() {
+        when(todoRepository.findAllById(any())).thenReturn(List.of(getNotDoneTodoItem()));
+        when(todoRepository.patchTodoItem(eq(1L), isNull(), any(Todo.class), any())).thenReturn(1);
+        List<TodoBatchUpdateResultDTO> results = todoService.updateTodoItems(Arrays.asList(
+                null,
+                new TodoBatchUpdateDTO(null, getChangedTodoDTO()),
+                new TodoBatchUpdateDTO(1L, getChangedTodoDTO())));
+        assertThat(results, hasSize(3));
+        assertThat(results.get(0).httpStatus(), is(HttpStatus.BAD_REQUEST));
+        assertThat(results.get(0).message(), is(String.format(TodoService.BATCH_ID_NOT_PROVIDED_MESSAGE, 0)));
+        assertThat(results.get(1).httpStatus(), is(HttpStatus.BAD_REQUEST));
+        assertThat(results.get(1).message(), is(String.format(TodoService.BATCH_ID_NOT_PROVIDED_MESSAGE, 1)));
+        assertThat(results.get(2).httpStatus(), is(HttpStatus.OK));
+    }
+
+    @Test
+    void testTodoItemsChangeWithoutItems() {
+        assertThrows(InvalidInputException.class, () -> todoService.updateTodoItems(List.of()));
+    }
+
     @Test
     void testTodoChangeWithNonExistentId() {
-        when(todoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.empty());
         assertThrows(TodoItemNotFoundException.class, () -> todoService.updateTodoItem(1L, getNewTodoDTO()));
     }
 
     @Test
     void testTodoItemPastDueChange() {
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(getPastDueTodo(LocalDateTime.now().minusDays(3))));
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getPastDueTodo(LocalDateTime.now().minusDays(3)))));
         assertThrows(UpdatePastDueException.class, () -> todoService.updateTodoItem(1L, getChangedTodoDTO()));
     }
 
     @Test
     void testTodoItemMarkedAsDoneChange() {
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(getDoneTodo(LocalDateTime.now())));
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getDoneTodo(LocalDateTime.now()))));
         assertThrows(UpdateDoneTodoItemException.class, () -> todoService.updateTodoItem(1L, getChangedTodoDTO()));
     }
 
     @Test
     void testMarkTodoItemAsDone() {
         LocalDateTime currentDate = LocalDateTime.now();
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(getNotDoneTodo(currentDate)));
-        when(todoRepository.save(any(Todo.class))).thenReturn(getTodoMarkedAsDone(currentDate));
+        when(todoRepository.patchTodoItem(eq(1L), isNull(), any(Todo.class), any())).thenReturn(1);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getTodoMarkedAsDone(currentDate))));
         Todo doneTodo = TodoDTO.fromTodoDTOToTodo(todoService.updateTodoItem(1L, getUpdateTodoToDoneDTO()));
         assertThat(doneTodo.getStatus(), is(Todo.Status.DONE));
         assertThat(doneTodo.getDoneAt(), is(greaterThan(currentDate)));
@@ -109,8 +304,8 @@ class TodoServiceTest {
     @Test
     void testMarkTodoDoneItemAsNotDone() {
         LocalDateTime currentDate = LocalDateTime.now();
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(getDoneTodo(currentDate)));
-        when(todoRepository.save(any(Todo.class))).thenReturn(getNewTodoItem(currentDate));
+        when(todoRepository.patchTodoItem(eq(1L), isNull(), any(Todo.class), any())).thenReturn(1);
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(currentDate))));
         Todo doneTodo = TodoDTO.fromTodoDTOToTodo(todoService.updateTodoItem(1L, getUpdateNotDoneTodoDTO()));
         assertThat(doneTodo.getStatus(), is(Todo.Status.NOT_DONE));
         assertThat(doneTodo.getDoneAt(), nullValue());
@@ -119,7 +314,7 @@ class TodoServiceTest {
     @Test
     void testGetTodoItem() {
         LocalDateTime currentDate = LocalDateTime.now();
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(getNewTodoItem(currentDate)));
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(currentDate))));
         Todo todo = TodoDTO.fromTodoDTOToTodo(todoService.getTodoById(1L));
         assertThat(todo.getId(), is(1L));
         assertThat(todo.getDescription(), is(GO_TO_GROCERY_STORE));
@@ -127,26 +322,186 @@ class TodoServiceTest {
         assertThat(todo.getCreatedAt(), is(currentDate));
     }
 
+    @Test
+    void testGetCachedTodoItem() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(LocalDateTime.now()))));
+        todoService.getTodoById(1L);
+        todoService.getTodoById(1L);
+        verify(todoRepository, times(1)).findTodoDTOById(1L);
+    }
+
+    @Test
+    void testLoadCachedTodoItemFromThePrimary() {
+        when(todoRepository.findTodoDTOById(1L)).thenAnswer(invocation -> {
+            assertThat(PrimaryDataSourceContext.isPinned(), is(true));
+            return Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(LocalDateTime.now())));
+        });
+        todoService.getTodoById(1L);
+        verify(todoRepository).findTodoDTOById(1L);
+        assertThat(PrimaryDataSourceContext.isPinned(), is(false));
+    }
+
+    @Test
+    void testGetCachedTodoItemPastDue() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getPastDueTodo(LocalDateTime.now().minusDays(1)))));
+        todoService.getTodoById(1L);
+        assertThat(todoService.getTodoById(1L).status(), is(TodoDTO.Status.PAST_DUE));
+    }
+
+    @Test
+    void testGetTodoItemAfterCachedItemChange() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(LocalDateTime.now()))));
+        todoService.getTodoById(1L);
+        todoCache.onTodoChangedEvent(new TodoChangedEvent(this, TodoDTO.fromTodoToTodoDTO(getNewTodoItem(LocalDateTime.now())).withStatus(TodoDTO.Status.DONE)));
+        assertThat(todoService.getTodoById(1L).status(), is(TodoDTO.Status.DONE));
+        verify(todoRepository, times(1)).findTodoDTOById(1L);
+    }
+
+    @Test
+    void testGetTodoItemAfterCachedItemStatusChange() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNewTodoItem(LocalDateTime.now()))));
+        todoService.getTodoById(1L);
+        todoCache.onTodoStatusChangedEvent(new TodoStatusChangedEvent(this, List.of(1L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE, 1));
+        todoService.getTodoById(1L);
+        verify(todoRepository, times(2)).findTodoDTOById(1L);
+    }
+
     @Test
     void testGetNonExistentTodoItem() {
-        when(todoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.empty());
         assertThrows(TodoItemNotFoundException.class, () -> todoService.getTodoById(1L));
     }
 
     @Test
     void testGetAllItems() {
-        Page<Todo> todoPage = new PageImpl<>(List.of(getDoneTodo(LocalDateTime.now().minusDays(2)), getNotDoneTodo(LocalDateTime.now())), PageRequest.of(0, 5), 2);
-        when(todoRepository.findAll(PageRequest.of(0, 5))).thenReturn(todoPage);
+        Page<TodoDTO> todoPage = new PageImpl<>(List.of(TodoDTO.fromTodoToTodoDTO(getDoneTodo(LocalDateTime.now().minusDays(2))),
+                TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now()))), PageRequest.of(0, 5), 2);
+        when(todoRepository.findAllTodoDTOs(PageRequest.of(0, 5))).thenReturn(todoPage);
         assertThat(todoService.getTodosByFilter(false, 0, 5), hasSize(2));
     }
 
     @Test
     void testGetAllItemsByStatus() {
-        Page<Todo> todoPage = new PageImpl<>(List.of(getNotDoneTodo(LocalDateTime.now()), getNotDoneTodo(LocalDateTime.now())), PageRequest.of(0, 5), 2);
-        when(todoRepository.findAllByStatus(Todo.Status.NOT_DONE, PageRequest.of(0, 5))).thenReturn(todoPage);
+        Page<TodoDTO> todoPage = new PageImpl<>(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now())),
+                TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now()))), PageRequest.of(0, 5), 2);
+        when(todoRepository.findAllTodoDTOsByStatus(Todo.Status.NOT_DONE, PageRequest.of(0, 5))).thenReturn(todoPage);
         assertThat(todoService.getTodosByFilter(true, 0, 5), hasSize(2));
     }
 
+    @Test
+    void testGetAllItemsWithCursor() {
+        SliceImpl<TodoDTO> todoSlice = new SliceImpl<>(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now())),
+                TodoDTO.fromTodoToTodoDTO(getDoneTodo(LocalDateTime.now()))), PageRequest.of(0, 2), true);
+        when(todoRepository.findTodoDTOsAfter(TodoCursor.FIRST_ID, PageRequest.of(0, 2))).thenReturn(todoSlice);
+        TodoCursorPage todoCursorPage = todoService.getTodosByCursor(false, null, 2);
+        assertThat(todoCursorPage.todos(), hasSize(2));
+        assertThat(TodoCursor.decode(todoCursorPage.nextCursor()), is(1L));
+    }
+
+    @Test
+    void testGetLastItemsByStatusWithCursor() {
+        SliceImpl<TodoDTO> todoSlice = new SliceImpl<>(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now()))), PageRequest.of(0, 2), false);
+        when(todoRepository.findTodoDTOsByStatusAfter(Todo.Status.NOT_DONE, 10L, PageRequest.of(0, 2))).thenReturn(todoSlice);
+        TodoCursorPage todoCursorPage = todoService.getTodosByCursor(true, TodoCursor.encode(10L), 2);
+        assertThat(todoCursorPage.todos(), hasSize(1));
+        assertThat(todoCursorPage.nextCursor(), nullValue());
+    }
+
+    @Test
+    void testGetItemsWithInvalidCursor() {
+        assertThrows(InvalidInputException.class, () -> todoService.getTodosByCursor(false, "not-a-cursor", 2));
+    }
+
+    @Test
+    void testGetTodoItemFromReadModel() {
+        when(todoReadModel.isEnabled()).thenReturn(true);
+        when(todoReadModel.findById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getPastDueTodo(LocalDateTime.now().minusDays(1)))));
+        assertThat(todoService.getTodoById(1L).status(), is(TodoDTO.Status.PAST_DUE));
+        verify(todoRepository, never()).findTodoDTOById(any());
+    }
+
+    @Test
+    void testGetMissingTodoItemFromReadModel() {
+        when(todoReadModel.isEnabled()).thenReturn(true);
+        when(todoReadModel.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(TodoItemNotFoundException.class, () -> todoService.getTodoById(1L));
+    }
+
+    @Test
+    void testGetAllItemsByStatusFromReadModel() {
+        when(todoReadModel.isEnabled()).thenReturn(true);
+        when(todoReadModel.findPage(true, 1, 5)).thenReturn(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now()))));
+        assertThat(todoService.getTodosByFilter(true, 1, 5), hasSize(1));
+        verify(todoRepository, never()).findAllTodoDTOsByStatus(any(), any());
+    }
+
+    @Test
+    void testGetAllItemsWithCursorFromReadModel() {
+        when(todoReadModel.isEnabled()).thenReturn(true);
+        when(todoReadModel.findAfter(false, TodoCursor.FIRST_ID, 2)).thenReturn(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now())),
+                TodoDTO.fromTodoToTodoDTO(getDoneTodo(LocalDateTime.now()))));
+        TodoCursorPage todoCursorPage = todoService.getTodosByCursor(false, null, 1);
+        assertThat(todoCursorPage.todos(), hasSize(1));
+        assertThat(TodoCursor.decode(todoCursorPage.nextCursor()), is(1L));
+    }
+
+    @Test
+    void testSearchItems() {
+        when(todoSearchIndex.search("go mall")).thenReturn(new long[] {1L, 2L, 3L});
+        when(todoRepository.findAllTodoDTOsByIds(List.of(3L))).thenReturn(List.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodo(LocalDateTime.now()))));
+        assertThat(todoService.searchTodos("go mall", 1, 2), hasSize(1));
+        assertThat(todoService.searchTodos("go mall", 2, 2), hasSize(0));
+    }
+
+    @Test
+    void testSearchItemsWithoutQuery() {
+        assertThrows(InvalidInputException.class, () -> todoService.searchTodos(" ", 0, 2));
+    }
+
+    @Test
+    void testSearchItemsWithInvalidPage() {
+        assertThrows(InvalidInputException.class, () -> todoService.searchTodos("go mall", -1, 2));
+        assertThrows(InvalidInputException.class, () -> todoService.searchTodos("go mall", 0, 0));
+        verify(todoSearchIndex, never()).search(any());
+    }
+
+    @Test
+    void testSearchItemsBeyondTheLastPage() {
+        when(todoSearchIndex.search("go mall")).thenReturn(new long[] {1L, 2L, 3L});
+        assertThat(todoService.searchTodos("go mall", Integer.MAX_VALUE, Integer.MAX_VALUE), hasSize(0));
+    }
+
+    @Test
+    void testUpdatePastDueItems() {
+        LocalDateTime now = LocalDateTime.now();
+        when(todoRepository.findIdsByStatusAndDueAtBefore(Todo.Status.NOT_DONE, now, PageRequest.of(0, 10))).thenReturn(List.of(1L, 2L, 3L));
+        when(todoRepository.updateTodoStatusByIds(anyList(), eq(Todo.Status.NOT_DONE), eq(Todo.Status.PAST_DUE))).thenReturn(3);
+        assertThat(todoService.updatePastDueItems(now, 10), is(3));
+        verify(todoEventPublisherService).publishTodoStatusChangedEvent(List.of(1L, 2L, 3L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE, 3);
+    }
+
+    @Test
+    void testUpdateTodoStatusById() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getNotDoneTodoItem())));
+        when(todoRepository.updateTodoStatusByIds(List.of(1L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE)).thenReturn(1);
+        todoService.updateTodoStatusById(1L, Todo.Status.PAST_DUE);
+        verify(todoEventPublisherService).publishTodoStatusChangedEvent(List.of(1L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE, 1);
+    }
+
+    @Test
+    void testUpdateTodoStatusByIdWithTheSameStatus() {
+        when(todoRepository.findTodoDTOById(1L)).thenReturn(Optional.of(TodoDTO.fromTodoToTodoDTO(getDoneTodo(LocalDateTime.now()))));
+        todoService.updateTodoStatusById(1L, Todo.Status.DONE);
+        verify(todoRepository, never()).updateTodoStatusByIds(anyList(), any(), any());
+    }
+
+    @Test
+    void testUpdatePastDueItemsWithoutExpiredItems() {
+        LocalDateTime now = LocalDateTime.now();
+        when(todoRepository.findIdsByStatusAndDueAtBefore(Todo.Status.NOT_DONE, now, PageRequest.of(0, 10))).thenReturn(List.of());
+        assertThat(todoService.updatePastDueItems(now, 10), is(0));
+    }
+
     private static TodoDTO getNewTodoDTO() {
         return TodoDTO.builder()
                 .description(GO_TO_GROCERY_STORE)
@@ -0,0 +1,19 @@
+package com.danieltnaves.todoservice.todo.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import org.junit.jupiter.api.Test;
+
+class TodoDTOTest {
+
+    @Test
+    void testStatusesMappedByOrdinal() {
+        for (Todo.Status status : Todo.Status.values()) {
+            assertThat(TodoDTO.Status.fromTodoStatus(status).name(), is(status.name()));
+            assertThat(TodoDTO.Status.fromTodoStatus(status).toTodoStatus(), is(status));
+        }
+        assertThat(TodoDTO.Status.values().length, is(Todo.Status.values().length));
+    }
+}
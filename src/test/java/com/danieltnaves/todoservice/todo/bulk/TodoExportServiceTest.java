@@ -0,0 +1,112 @@
+package com.danieltnaves.todoservice.todo.bulk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TodoExportServiceTest {
+
+    TodoRepository todoRepository;
+
+    EntityManager entityManager;
+
+    TodoExportService todoExportService;
+
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        entityManager = mock(EntityManager.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        todoExportService = new TodoExportService(todoRepository, entityManager, objectMapper, mock(PlatformTransactionManager.class),
+                new TodoShards(false, List.of()));
+    }
+
+    @Test
+    void testExportTodoItems() throws IOException {
+        Todo firstTodo = getTodo(1L, Todo.Status.NOT_DONE);
+        Todo secondTodo = getTodo(2L, Todo.Status.DONE);
+        when(todoRepository.streamAll()).thenReturn(Stream.of(firstTodo, secondTodo));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(todoExportService.exportTodoItems(null, outputStream), is(2L));
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines.length, is(2));
+        assertThat(objectMapper.readValue(lines[0], TodoDTO.class), is(TodoDTO.fromTodoToTodoDTO(firstTodo)));
+        assertThat(objectMapper.readValue(lines[1], TodoDTO.class), is(TodoDTO.fromTodoToTodoDTO(secondTodo)));
+        verify(entityManager).detach(firstTodo);
+        verify(entityManager).detach(secondTodo);
+    }
+
+    @Test
+    void testExportTodoItemsByStatus() throws IOException {
+        when(todoRepository.streamAllByStatus(Todo.Status.DONE)).thenReturn(Stream.of(getTodo(2L, Todo.Status.DONE)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(todoExportService.exportTodoItems(TodoDTO.Status.DONE, outputStream), is(1L));
+        assertThat(objectMapper.readValue(outputStream.toString(StandardCharsets.UTF_8).trim(), TodoDTO.class).status(), is(TodoDTO.Status.DONE));
+    }
+
+    @Test
+    void testExportPastDueTodoItems() throws IOException {
+        Todo overdueTodo = getTodo(1L, Todo.Status.NOT_DONE, LocalDateTime.now().minusDays(1));
+        Todo notDoneTodo = getTodo(2L, Todo.Status.NOT_DONE, LocalDateTime.now().plusDays(1));
+        Todo pastDueTodo = getTodo(3L, Todo.Status.PAST_DUE, LocalDateTime.now().minusDays(2));
+        when(todoRepository.streamAllByStatusIn(List.of(Todo.Status.PAST_DUE, Todo.Status.NOT_DONE))).thenReturn(Stream.of(overdueTodo, notDoneTodo, pastDueTodo));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(todoExportService.exportTodoItems(TodoDTO.Status.PAST_DUE, outputStream), is(2L));
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(objectMapper.readValue(lines[0], TodoDTO.class), is(TodoDTO.fromTodoToTodoDTO(overdueTodo).withStatus(TodoDTO.Status.PAST_DUE)));
+        assertThat(objectMapper.readValue(lines[1], TodoDTO.class), is(TodoDTO.fromTodoToTodoDTO(pastDueTodo)));
+        verify(entityManager).detach(notDoneTodo);
+    }
+
+    @Test
+    void testExportNotDoneTodoItemsWithoutPastDueItems() throws IOException {
+        when(todoRepository.streamAllByStatus(Todo.Status.NOT_DONE)).thenReturn(Stream.of(getTodo(1L, Todo.Status.NOT_DONE, LocalDateTime.now().minusDays(1)),
+                getTodo(2L, Todo.Status.NOT_DONE, LocalDateTime.now().plusDays(1))));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(todoExportService.exportTodoItems(TodoDTO.Status.NOT_DONE, outputStream), is(1L));
+        assertThat(objectMapper.readValue(outputStream.toString(StandardCharsets.UTF_8).trim(), TodoDTO.class).id(), is(2L));
+    }
+
+    @Test
+    void testExportWithoutTodoItems() throws IOException {
+        when(todoRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(todoExportService.exportTodoItems(null, outputStream), is(0L));
+        assertThat(outputStream.size(), is(0));
+    }
+
+    private static Todo getTodo(Long id, Todo.Status status) {
+        return getTodo(id, status, null);
+    }
+
+    private static Todo getTodo(Long id, Todo.Status status, LocalDateTime dueAt) {
+        return Todo.builder()
+                .id(id)
+                .description("Go to grocery store")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .dueAt(dueAt)
+                .build();
+    }
+}
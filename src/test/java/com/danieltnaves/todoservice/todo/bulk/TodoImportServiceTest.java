@@ -0,0 +1,104 @@
+package com.danieltnaves.todoservice.todo.bulk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoImportSummaryDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.events.TodoEventPublisherService;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TodoImportServiceTest {
+
+    public static final int CHUNK_SIZE = 2;
+
+    public static final int MAX_REJECTED_LINES = 2;
+
+    TodoRepository todoRepository;
+
+    TodoEventPublisherService todoEventPublisherService;
+
+    EntityManager entityManager;
+
+    TodoImportService todoImportService;
+
+    List<Integer> chunkSizes;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        todoEventPublisherService = mock(TodoEventPublisherService.class);
+        entityManager = mock(EntityManager.class);
+        chunkSizes = new ArrayList<>();
+        when(todoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Todo> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+        todoImportService = new TodoImportService(todoRepository, todoEventPublisherService, entityManager, mock(PlatformTransactionManager.class),
+                new TodoShards(false, List.of()), Jackson2ObjectMapperBuilder.json().build(), CHUNK_SIZE, MAX_REJECTED_LINES);
+    }
+
+    @Test
+    void testImportTodoItemsInChunks() throws IOException {
+        TodoImportSummaryDTO summary = importTodoItems("""
+                {"description": "Go to grocery store"}
+                {"description": "Go to the mall"}
+
+                {"description": "Finish to read my favorite book"}
+                """);
+        assertThat(summary.importedItems(), is(3L));
+        assertThat(summary.rejectedItems(), is(0L));
+        assertThat(chunkSizes, contains(CHUNK_SIZE, 1));
+        verify(entityManager, times(2)).clear();
+        verify(todoEventPublisherService, times(3)).publishTodoChangedEvent(any(TodoDTO.class));
+    }
+
+    @Test
+    void testImportTodoItemsWithRejectedLines() throws IOException {
+        TodoImportSummaryDTO summary = importTodoItems("""
+                {"description": "Go to grocery store"}
+                {"status": "DONE"}
+                not a json
+                {"description": ""}
+                {"description": "Go to the mall"}
+                """);
+        assertThat(summary.importedItems(), is(2L));
+        assertThat(summary.rejectedItems(), is(3L));
+        assertThat(summary.rejectedLines(), hasSize(MAX_REJECTED_LINES));
+        assertThat(summary.rejectedLines(), contains(2L, 3L));
+        assertThat(chunkSizes, contains(CHUNK_SIZE));
+    }
+
+    @Test
+    void testImportWithoutTodoItems() throws IOException {
+        TodoImportSummaryDTO summary = importTodoItems("");
+        assertThat(summary.importedItems(), is(0L));
+        verify(todoRepository, never()).saveAll(anyList());
+    }
+
+    private TodoImportSummaryDTO importTodoItems(String body) throws IOException {
+        return todoImportService.importTodoItems(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
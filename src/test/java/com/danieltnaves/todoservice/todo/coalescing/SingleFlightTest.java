@@ -0,0 +1,105 @@
+package com.danieltnaves.todoservice.todo.coalescing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void testCoalesceConcurrentCallsWithTheSameKey() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "todo";
+                })));
+            }
+            while (coalescedCalls(meterRegistry) + calls.get() < CALLERS) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), is("todo"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(coalescedCalls(meterRegistry), is(CALLERS - 1));
+    }
+
+    @Test
+    void testShareTheExceptionWithTheCoalescedCalls() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("failed");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "todo"));
+            while (coalescedCalls(meterRegistry) < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            ExecutionException leaderException = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerException = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertThat(leaderException.getCause() instanceof IllegalStateException, is(true));
+            assertThat(followerException.getCause() instanceof IllegalStateException, is(true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRunANewCallAfterTheCompletedOne() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        assertThat(singleFlight.execute(1L, calls::incrementAndGet), is(1));
+        assertThat(singleFlight.execute(1L, calls::incrementAndGet), is(2));
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(1L, () -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertThat(singleFlight.execute(1L, calls::incrementAndGet), is(3));
+    }
+
+    private static int coalescedCalls(SimpleMeterRegistry meterRegistry) {
+        return (int) meterRegistry.get("todo.single-flight.calls").tag("coalesced", "true").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
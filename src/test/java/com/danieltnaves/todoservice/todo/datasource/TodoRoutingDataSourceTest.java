@@ -0,0 +1,52 @@
+package com.danieltnaves.todoservice.todo.datasource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TodoRoutingDataSourceTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    TodoRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new TodoRoutingDataSource(mock(DataSource.class), mock(DataSource.class), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryDataSourceContext.unpin();
+    }
+
+    @Test
+    void testRouteReadOnlyTransactionsToTheReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.determineCurrentLookupKey(), is(DataSourceRoute.REPLICA));
+        assertThat(meterRegistry.get("todo.datasource.connections").tag("route", "replica").counter().count(), is(1.0));
+    }
+
+    @Test
+    void testRouteWritesToThePrimary() {
+        assertThat(routingDataSource.determineCurrentLookupKey(), is(DataSourceRoute.PRIMARY));
+        assertThat(meterRegistry.get("todo.datasource.connections").tag("route", "primary").counter().count(), is(1.0));
+    }
+
+    @Test
+    void testRoutePinnedReadOnlyTransactionsToThePrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryDataSourceContext.runOnPrimary(() -> assertThat(routingDataSource.determineCurrentLookupKey(), is(DataSourceRoute.PRIMARY)));
+        assertThat(routingDataSource.determineCurrentLookupKey(), is(DataSourceRoute.REPLICA));
+    }
+
+}
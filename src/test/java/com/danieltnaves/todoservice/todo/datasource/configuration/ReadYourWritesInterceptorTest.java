@@ -0,0 +1,55 @@
+package com.danieltnaves.todoservice.todo.datasource.configuration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesInterceptorTest {
+
+    ReadYourWritesInterceptor readYourWritesInterceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        PrimaryDataSourceContext.unpin();
+    }
+
+    @Test
+    void testPinWritesAndSetTheWindowCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWritesInterceptor.preHandle(new MockHttpServletRequest("PATCH", "/todo/1"), response, new Object());
+        assertThat(PrimaryDataSourceContext.isPinned(), is(true));
+        Cookie cookie = response.getCookie(ReadYourWritesInterceptor.PRIMARY_UNTIL_COOKIE);
+        assertThat(cookie, is(notNullValue()));
+        assertThat(cookie.getMaxAge(), is(5));
+        readYourWritesInterceptor.afterCompletion(new MockHttpServletRequest("PATCH", "/todo/1"), response, new Object(), null);
+        assertThat(PrimaryDataSourceContext.isPinned(), is(false));
+    }
+
+    @Test
+    void testPinReadsWithinTheWindow() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todo");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.PRIMARY_UNTIL_COOKIE, Long.toString(System.currentTimeMillis() + 5000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWritesInterceptor.preHandle(request, response, new Object());
+        assertThat(PrimaryDataSourceContext.isPinned(), is(true));
+        assertThat(response.getCookie(ReadYourWritesInterceptor.PRIMARY_UNTIL_COOKIE), is(nullValue()));
+    }
+
+    @Test
+    void testDoNotPinReadsAfterTheWindow() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todo");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.PRIMARY_UNTIL_COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        readYourWritesInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        assertThat(PrimaryDataSourceContext.isPinned(), is(false));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.danieltnaves.todoservice.todo.events.configuration;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PartitionedEventExecutorTest {
+
+    PartitionedEventExecutor partitionedEventExecutor;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CountDownLatch startedTask = new CountDownLatch(1);
+
+    CountDownLatch releaseTask = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        releaseTask.countDown();
+        partitionedEventExecutor.shutdown();
+    }
+
+    @Test
+    void testDeduplicateTasksWithKeysInFlight() {
+        partitionedEventExecutor = getPartitionedEventExecutor(1, 10, PartitionedEventExecutor.OverflowPolicy.DROP);
+        assertThat(partitionedEventExecutor.execute(1L, this::blockTask), is(true));
+        assertThat(partitionedEventExecutor.execute(1L, () -> { }), is(false));
+        assertThat(meterRegistry.get("todo.events.executor.deduplicated").functionCounter().count(), is(1.0));
+        releaseTask.countDown();
+        await().atMost(5, SECONDS).until(() -> partitionedEventExecutor.getInFlightTasks() == 0);
+        assertThat(partitionedEventExecutor.execute(1L, () -> { }), is(true));
+    }
+
+    @Test
+    void testDropTasksWhenThePartitionQueueIsFull() throws InterruptedException {
+        partitionedEventExecutor = getPartitionedEventExecutor(1, 1, PartitionedEventExecutor.OverflowPolicy.DROP);
+        partitionedEventExecutor.execute(1L, this::blockTask);
+        startedTask.await(5, SECONDS);
+        assertThat(partitionedEventExecutor.execute(2L, () -> { }), is(true));
+        assertThat(partitionedEventExecutor.execute(3L, () -> { }), is(false));
+        assertThat(partitionedEventExecutor.getQueueDepth(), is(1));
+        assertThat(meterRegistry.get("todo.events.executor.dropped").functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    void testRunTasksOnTheCallerThreadWhenThePartitionQueueIsFull() throws InterruptedException {
+        partitionedEventExecutor = getPartitionedEventExecutor(1, 1, PartitionedEventExecutor.OverflowPolicy.CALLER_RUNS);
+        partitionedEventExecutor.execute(1L, this::blockTask);
+        startedTask.await(5, SECONDS);
+        partitionedEventExecutor.execute(2L, () -> { });
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        assertThat(partitionedEventExecutor.execute(3L, () -> threadNames.add(Thread.currentThread().getName())), is(true));
+        assertThat(threadNames, contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void testRunTasksWithTheSameKeyInOrder() {
+        partitionedEventExecutor = getPartitionedEventExecutor(4, 100, PartitionedEventExecutor.OverflowPolicy.BLOCK);
+        List<Integer> handledTasks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int task = i;
+            await().atMost(5, SECONDS).until(() -> partitionedEventExecutor.execute(1L, () -> handledTasks.add(task)));
+        }
+        await().atMost(5, SECONDS).until(() -> meterRegistry.get("todo.events.executor.handler.latency").timer().count() == 10L);
+        assertThat(handledTasks, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    private PartitionedEventExecutor getPartitionedEventExecutor(int partitions, int queueCapacity, PartitionedEventExecutor.OverflowPolicy overflowPolicy) {
+        PartitionedEventExecutor executor = new PartitionedEventExecutor(partitions, queueCapacity, overflowPolicy, Duration.ofMillis(100));
+        executor.bindTo(meterRegistry);
+        return executor;
+    }
+
+    private void blockTask() {
+        startedTask.countDown();
+        try {
+            releaseTask.await(5, SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.danieltnaves.todoservice.todo.limits;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    void testRejectOverTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+        assertThat(limit.tryAcquire(), is(1));
+        assertThat(limit.tryAcquire(), is(2));
+        assertThat(limit.tryAcquire(), is(0));
+        limit.release();
+        assertThat(limit.tryAcquire(), is(2));
+    }
+
+    @Test
+    void testGrowWithSteadyLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+        sample(limit, 200, 10);
+        assertThat(limit.getLimit(), is(greaterThan(10)));
+    }
+
+    @Test
+    void testShrinkWithGrowingLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 1, 100);
+        sample(limit, 100, 10);
+        int steadyLimit = limit.getLimit();
+        sample(limit, 100, 100);
+        assertThat(limit.getLimit(), is(lessThan(steadyLimit)));
+    }
+
+    @Test
+    void testKeepLimitWhileUnderused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 1, 100);
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), 1);
+        }
+        assertThat(limit.getLimit(), is(50));
+    }
+
+    private static void sample(AdaptiveConcurrencyLimit limit, int samples, long rttMillis) {
+        for (int i = 0; i < samples; i++) {
+            limit.tryAcquire();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), limit.getLimit());
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.danieltnaves.todoservice.todo.limits.configuration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.danieltnaves.todoservice.todo.TodoController;
+import com.danieltnaves.todoservice.todo.errors.ConcurrencyLimitExceededException;
+import com.danieltnaves.todoservice.todo.limits.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class ConcurrencyLimitInterceptorTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    HandlerMethod getItem;
+
+    HandlerMethod getStats;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(meterRegistry, () -> new AdaptiveConcurrencyLimit(1, 1, 1),
+                () -> new AdaptiveConcurrencyLimit(1, 1, 1), Duration.ofSeconds(2));
+        TodoController todoController = mock(TodoController.class);
+        getItem = new HandlerMethod(todoController, TodoController.class.getMethod("getItem", Long.class));
+        getStats = new HandlerMethod(todoController, TodoController.class.getMethod("getStats"));
+    }
+
+    @Test
+    void testRejectRequestsOverTheLimit() {
+        MockHttpServletRequest request = getRequest("GET", "/todo/{id}");
+        concurrencyLimitInterceptor.preHandle(request, new MockHttpServletResponse(), getItem);
+        ConcurrencyLimitExceededException exception = assertThrows(ConcurrencyLimitExceededException.class, () ->
+                concurrencyLimitInterceptor.preHandle(getRequest("GET", "/todo/{id}"), new MockHttpServletResponse(), getItem));
+        assertThat(exception.getRetryAfter(), is(Duration.ofSeconds(2)));
+        assertThat(meterRegistry.get("todo.limits.rejections").tag("uri", "/todo/{id}").counter().count(), is(1.0));
+        concurrencyLimitInterceptor.afterCompletion(request, new MockHttpServletResponse(), getItem, null);
+        assertThat(concurrencyLimitInterceptor.preHandle(getRequest("GET", "/todo/{id}"), new MockHttpServletResponse(), getItem), is(true));
+    }
+
+    @Test
+    void testLimitEndpointsSeparately() {
+        concurrencyLimitInterceptor.preHandle(getRequest("GET", "/todo/{id}"), new MockHttpServletResponse(), getItem);
+        assertThat(concurrencyLimitInterceptor.preHandle(getRequest("GET", "/todo/stats"), new MockHttpServletResponse(), getStats), is(true));
+        assertThat(meterRegistry.get("todo.limits.inflight").tag("uri", "/todo/stats").gauge().value(), is(1.0));
+    }
+
+    @Test
+    void testIgnoreOtherHandlers() {
+        assertThat(concurrencyLimitInterceptor.preHandle(getRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new Object()), is(true));
+        assertThat(concurrencyLimitInterceptor.preHandle(getRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new Object()), is(true));
+    }
+
+    private static MockHttpServletRequest getRequest(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, uri);
+        return request;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.danieltnaves.todoservice.todo.outbox;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.danieltnaves.todoservice.todo.events.UpdatePastDueEvent;
+import com.danieltnaves.todoservice.todo.events.configuration.PartitionedApplicationEventMulticaster;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TodoOutboxRelayTest {
+
+    public static final int BATCH_SIZE = 10;
+
+    public static final int MAX_ATTEMPTS = 3;
+
+    TodoOutbox todoOutbox;
+
+    PartitionedApplicationEventMulticaster eventMulticaster;
+
+    SimpleMeterRegistry meterRegistry;
+
+    TodoOutboxRelay todoOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        todoOutbox = mock(TodoOutbox.class);
+        eventMulticaster = mock(PartitionedApplicationEventMulticaster.class);
+        meterRegistry = new SimpleMeterRegistry();
+        todoOutboxRelay = new TodoOutboxRelay(todoOutbox, eventMulticaster, new TodoShards(false, List.of()), meterRegistry, BATCH_SIZE, 4, MAX_ATTEMPTS);
+        when(todoOutbox.getBacklog()).thenReturn(TodoOutboxBacklog.EMPTY);
+    }
+
+    @Test
+    void testRelayDrainsFullBatchesAndDeletesTheDispatchedEvents() {
+        when(todoOutbox.findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(events(1, 10), events(11, 13));
+        todoOutboxRelay.relay();
+        verify(todoOutbox, times(2)).findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS);
+        verify(eventMulticaster, times(13)).multicastEventNow(any(UpdatePastDueEvent.class));
+        verify(todoOutbox).deleteEvents(argThat(ids -> ids.size() == 10));
+        verify(todoOutbox).deleteEvents(argThat(ids -> ids.size() == 3));
+        verify(todoOutbox, never()).incrementAttempts(anyCollection());
+        assertThat(meterRegistry.get("todo.outbox.relay.events").tag("outcome", "dispatched").counter().count(), is(13.0));
+        assertThat(meterRegistry.get("todo.outbox.lag").timer().count(), is(13L));
+    }
+
+    @Test
+    void testRelayDispatchesASingleEventForEachItem() {
+        List<TodoOutboxEvent> events = List.of(event(1, 42), event(2, 42), event(3, 7));
+        when(todoOutbox.findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(events);
+        todoOutboxRelay.relay();
+        ArgumentCaptor<UpdatePastDueEvent> dispatchedEvents = ArgumentCaptor.forClass(UpdatePastDueEvent.class);
+        verify(eventMulticaster, times(2)).multicastEventNow(dispatchedEvents.capture());
+        assertThat(dispatchedEvents.getAllValues().stream().map(UpdatePastDueEvent::getId).toList(), containsInAnyOrder(42L, 7L));
+        verify(todoOutbox).deleteEvents(argThat(ids -> new ArrayList<>(ids).equals(List.of(1L, 2L, 3L))));
+    }
+
+    @Test
+    void testRelayRetriesTheFailedEventsOnTheNextRun() {
+        when(todoOutbox.findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(events(1, 10));
+        doThrow(new IllegalStateException("Listener failure")).when(eventMulticaster).multicastEventNow(argThat(event -> ((UpdatePastDueEvent) event).getId() == 5L));
+        when(todoOutbox.deleteExhaustedEvents(MAX_ATTEMPTS)).thenReturn(0);
+        todoOutboxRelay.relay();
+        verify(todoOutbox, times(1)).findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS);
+        verify(todoOutbox).deleteEvents(argThat(ids -> ids.size() == 9 && !ids.contains(5L)));
+        verify(todoOutbox).incrementAttempts(argThat((Collection<Long> ids) -> ids.equals(List.of(5L))));
+        assertThat(meterRegistry.get("todo.outbox.relay.events").tag("outcome", "failed").counter().count(), is(1.0));
+    }
+
+    @Test
+    void testRelayCountsTheDiscardedEvents() {
+        when(todoOutbox.findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(events(1, 1));
+        doThrow(new IllegalStateException("Listener failure")).when(eventMulticaster).multicastEventNow(any());
+        when(todoOutbox.deleteExhaustedEvents(MAX_ATTEMPTS)).thenReturn(1);
+        todoOutboxRelay.relay();
+        assertThat(meterRegistry.get("todo.outbox.relay.events").tag("outcome", "discarded").counter().count(), is(1.0));
+    }
+
+    @Test
+    void testRelayPublishesTheBacklogLeftByTheRun() {
+        when(todoOutbox.findPendingEvents(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(List.of());
+        when(todoOutbox.getBacklog()).thenReturn(new TodoOutboxBacklog(3, LocalDateTime.now().minusMinutes(1)));
+        todoOutboxRelay.relay();
+        verify(eventMulticaster, never()).multicastEventNow(any());
+        assertThat(meterRegistry.get("todo.outbox.pending").gauge().value(), is(3.0));
+        assertThat(meterRegistry.get("todo.outbox.oldest.age").gauge().value() >= 60, is(true));
+    }
+
+    private static List<TodoOutboxEvent> events(long firstId, long lastId) {
+        return LongStream.rangeClosed(firstId, lastId).mapToObj(id -> event(id, id)).toList();
+    }
+
+    private static TodoOutboxEvent event(long id, long aggregateId) {
+        return new TodoOutboxEvent(id, TodoOutboxEvent.Type.UPDATE_PAST_DUE, aggregateId, LocalDateTime.now(), 0);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.danieltnaves.todoservice.todo.readmodel;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TodoColumnStoreTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 10, 1, 10, 30, 15, 123_456_000);
+
+    TodoColumnStore todoColumnStore;
+
+    @BeforeEach
+    void setUp() {
+        todoColumnStore = new TodoColumnStore();
+        todoColumnStore.upsert(getTodo(1L, "Go to the mall", TodoDTO.Status.NOT_DONE, 0L));
+        todoColumnStore.upsert(getTodo(3L, "Read a book", TodoDTO.Status.DONE, 0L));
+        todoColumnStore.upsert(getTodo(2L, "Go to grocery store", TodoDTO.Status.NOT_DONE, 0L));
+    }
+
+    @Test
+    void testFindById() {
+        assertThat(todoColumnStore.findById(3L), is(Optional.of(getTodo(3L, "Read a book", TodoDTO.Status.DONE, 0L))));
+        assertThat(todoColumnStore.findById(4L), is(Optional.empty()));
+    }
+
+    @Test
+    void testFindPageInIdOrder() {
+        assertThat(getIds(todoColumnStore.findPage(null, 0, 2)), contains(1L, 2L));
+        assertThat(getIds(todoColumnStore.findPage(null, 2, 2)), contains(3L));
+        assertThat(todoColumnStore.findPage(null, 4, 2).isEmpty(), is(true));
+    }
+
+    @Test
+    void testFindPageByStatus() {
+        assertThat(getIds(todoColumnStore.findPage(TodoDTO.Status.NOT_DONE, 1, 2)), contains(2L));
+        assertThat(getIds(todoColumnStore.findPage(TodoDTO.Status.DONE, 0, 2)), contains(3L));
+    }
+
+    @Test
+    void testFindAfter() {
+        assertThat(getIds(todoColumnStore.findAfter(null, 1L, 5)), contains(2L, 3L));
+        assertThat(getIds(todoColumnStore.findAfter(TodoDTO.Status.NOT_DONE, 0L, 5)), contains(1L, 2L));
+        assertThat(todoColumnStore.findAfter(TodoDTO.Status.NOT_DONE, 2L, 5).isEmpty(), is(true));
+    }
+
+    @Test
+    void testFindAllByIds() {
+        assertThat(getIds(todoColumnStore.findAllByIds(new long[] {3L, 5L, 1L})), contains(1L, 3L));
+    }
+
+    @Test
+    void testUpsertChangedDescription() {
+        todoColumnStore.upsert(getTodo(2L, "Go to the bakery and the grocery store", TodoDTO.Status.NOT_DONE, 1L));
+        todoColumnStore.upsert(getTodo(1L, "Mall", TodoDTO.Status.NOT_DONE, 1L));
+        assertThat(todoColumnStore.findById(2L).orElseThrow().description(), is("Go to the bakery and the grocery store"));
+        assertThat(todoColumnStore.findById(1L).orElseThrow().description(), is("Mall"));
+        assertThat(todoColumnStore.findById(3L).orElseThrow().description(), is("Read a book"));
+    }
+
+    @Test
+    void testUpsertIgnoresOutdatedVersion() {
+        todoColumnStore.upsert(getTodo(1L, "Go to the mall", TodoDTO.Status.DONE, 2L));
+        todoColumnStore.upsert(getTodo(1L, "Go to the mall", TodoDTO.Status.NOT_DONE, 1L));
+        assertThat(todoColumnStore.findById(1L).orElseThrow().status(), is(TodoDTO.Status.DONE));
+        assertThat(todoColumnStore.findById(1L).orElseThrow().version(), is(2L));
+    }
+
+    @Test
+    void testUpdateStatus() {
+        assertThat(todoColumnStore.updateStatus(List.of(1L, 3L, 4L), TodoDTO.Status.NOT_DONE, TodoDTO.Status.PAST_DUE), is(1));
+        assertThat(todoColumnStore.findById(1L).orElseThrow().status(), is(TodoDTO.Status.PAST_DUE));
+        assertThat(todoColumnStore.findById(1L).orElseThrow().version(), is(1L));
+        assertThat(todoColumnStore.findById(3L).orElseThrow().status(), is(TodoDTO.Status.DONE));
+    }
+
+    @Test
+    void testGrowth() {
+        LongStream.rangeClosed(4L, 10_000L).forEach(id -> todoColumnStore.upsert(getTodo(id, "Item " + id, TodoDTO.Status.NOT_DONE, 0L)));
+        assertThat(todoColumnStore.size(), is(10_000));
+        assertThat(todoColumnStore.findById(9_999L).orElseThrow().description(), is("Item 9999"));
+        assertThat(getIds(todoColumnStore.findPage(null, 9_998, 5)), contains(9_999L, 10_000L));
+    }
+
+    private static List<Long> getIds(List<TodoDTO> todos) {
+        return todos.stream().map(TodoDTO::id).toList();
+    }
+
+    private static TodoDTO getTodo(Long id, String description, TodoDTO.Status status, Long version) {
+        return new TodoDTO(id, description, status, CREATED_AT, status == TodoDTO.Status.DONE ? CREATED_AT.plusHours(1) : null, CREATED_AT.plusDays(1), version);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.danieltnaves.todoservice.todo.rules;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.errors.UpdateDoneTodoItemException;
+import com.danieltnaves.todoservice.todo.errors.UpdatePastDueException;
+import com.danieltnaves.todoservice.todo.errors.UpdatePastDueTodoItemWithFutureDateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpdateTodoItemRuleEngineTest {
+
+    UpdateTodoItemRuleEngine updateTodoItemRuleEngine;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        updateTodoItemRuleEngine = new UpdateTodoItemRuleEngine(List.of(new PastDueUpdateWithFutureDateRuleUpdate(), new UpdateDoneUpdateTodoItemRule(),
+                new UpdatePastDueTodoItemRule(), new UpdateTodoItemStatusToPastDueRule(), new UpdateTodoItemWithExpiredDueAtDateRule()), meterRegistry);
+    }
+
+    @Test
+    void testAcceptedChange() {
+        assertDoesNotThrow(() -> updateTodoItemRuleEngine.evaluate(TodoDTO.builder().description("Go to the mall").build(), getTodo(Todo.Status.NOT_DONE, null)));
+    }
+
+    @Test
+    void testFirstRejectingRuleIsReported() {
+        TodoDTO pastDueChangeWithFutureDate = TodoDTO.builder().status(TodoDTO.Status.PAST_DUE).dueAt(LocalDateTime.now().plusDays(1)).build();
+        assertThrows(UpdatePastDueTodoItemWithFutureDateException.class, () ->
+                updateTodoItemRuleEngine.evaluate(pastDueChangeWithFutureDate, getTodo(Todo.Status.DONE, null)));
+    }
+
+    @Test
+    void testDoneItemChange() {
+        assertThrows(UpdateDoneTodoItemException.class, () ->
+                updateTodoItemRuleEngine.evaluate(TodoDTO.builder().description("Go to the mall").build(), getTodo(Todo.Status.DONE, null)));
+    }
+
+    @Test
+    void testPastDueItemChange() {
+        UpdatePastDueException exception = assertThrows(UpdatePastDueException.class, () ->
+                updateTodoItemRuleEngine.evaluate(TodoDTO.builder().description("Go to the mall").build(), getTodo(Todo.Status.NOT_DONE, LocalDateTime.now().minusDays(1))));
+        assertThat(exception.getStackTrace().length, is(0));
+    }
+
+    @Test
+    void testWithoutRules() {
+        assertThat(new UpdateTodoItemRuleEngine(List.of(), new SimpleMeterRegistry()).toSpecification(TodoDTO.builder().build()), is(nullValue()));
+    }
+
+    @Test
+    void testAcceptedChangeMetrics() {
+        updateTodoItemRuleEngine.evaluate(TodoDTO.builder().description("Go to the mall").build(), getTodo(Todo.Status.NOT_DONE, null));
+        assertThat(getEvaluationCount("UpdateDoneUpdateTodoItemRule", "evaluation"), is(1L));
+        assertThat(getEvaluationCount("UpdateTodoItemWithExpiredDueAtDateRule", "evaluation"), is(1L));
+        assertThat(meterRegistry.get("todo.rules.rejections").tag("rule", "UpdateDoneUpdateTodoItemRule").counter().count(), is(0.0));
+    }
+
+    @Test
+    void testRejectedChangeMetrics() {
+        assertThrows(UpdateDoneTodoItemException.class, () ->
+                updateTodoItemRuleEngine.evaluate(TodoDTO.builder().description("Go to the mall").build(), getTodo(Todo.Status.DONE, null)));
+        assertThat(getEvaluationCount("UpdateDoneUpdateTodoItemRule", "evaluation"), is(1L));
+        assertThat(getEvaluationCount("UpdatePastDueTodoItemRule", "evaluation"), is(0L));
+        assertThat(meterRegistry.get("todo.rules.rejections").tag("rule", "UpdateDoneUpdateTodoItemRule").counter().count(), is(1.0));
+    }
+
+    @Test
+    void testSpecificationMetrics() {
+        updateTodoItemRuleEngine.toSpecification(TodoDTO.builder().description("Go to the mall").build());
+        assertThat(getEvaluationCount("UpdateDoneUpdateTodoItemRule", "specification"), is(1L));
+        assertThat(getEvaluationCount("UpdateDoneUpdateTodoItemRule", "evaluation"), is(0L));
+    }
+
+    private long getEvaluationCount(String rule, String phase) {
+        return meterRegistry.get("todo.rules.evaluation").tag("rule", rule).tag("phase", phase).timer().count();
+    }
+
+    private static Todo getTodo(Todo.Status status, LocalDateTime dueAt) {
+        return Todo.builder()
+                .id(1L)
+                .description("Go to grocery store")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .dueAt(dueAt)
+                .build();
+    }
+}
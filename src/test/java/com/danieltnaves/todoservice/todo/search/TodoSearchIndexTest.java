@@ -0,0 +1,96 @@
+package com.danieltnaves.todoservice.todo.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import com.danieltnaves.todoservice.todo.TodoRepository;
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TodoSearchIndexTest {
+
+    TodoSearchIndex todoSearchIndex;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        todoSearchIndex = new TodoSearchIndex(mock(TodoRepository.class), mock(PlatformTransactionManager.class), new TodoShards(false, List.of()), meterRegistry);
+        index(1L, "Go to the mall");
+        index(2L, "Go to grocery store");
+        index(3L, "Read my favorite book, then go to the MALL!");
+    }
+
+    @Test
+    void testSearchAllTerms() {
+        assertThat(todoSearchIndex.search("go mall"), is(new long[] {1L, 3L}));
+        assertThat(todoSearchIndex.search("grocery mall"), is(new long[0]));
+    }
+
+    @Test
+    void testSearchPrefixes() {
+        assertThat(todoSearchIndex.search("gro"), is(new long[] {2L}));
+        assertThat(todoSearchIndex.search("Go T"), is(new long[] {1L, 2L, 3L}));
+        assertThat(todoSearchIndex.search("fav bo"), is(new long[] {3L}));
+    }
+
+    @Test
+    void testSearchWithoutTerms() {
+        assertThat(todoSearchIndex.search(" ?! "), is(new long[0]));
+    }
+
+    @Test
+    void testSearchChangedDescription() {
+        TodoDTO previousTodo = getTodo(2L, "Go to grocery store");
+        todoSearchIndex.onTodoChangedEvent(new TodoChangedEvent(this, previousTodo, getTodo(2L, "Go to the bakery")));
+        assertThat(todoSearchIndex.search("grocery"), is(new long[0]));
+        assertThat(todoSearchIndex.search("bak"), is(new long[] {2L}));
+        assertThat(todoSearchIndex.search("go"), is(new long[] {1L, 2L, 3L}));
+    }
+
+    @Test
+    void testIgnoreChangesCommittedBeforeTheIndexedOne() {
+        TodoDTO firstTodo = getTodo(4L, "Buy milk", 0L);
+        TodoDTO secondTodo = getTodo(4L, "Buy bread", 1L);
+        TodoDTO thirdTodo = getTodo(4L, "Wash the car", 2L);
+        todoSearchIndex.onTodoChangedEvent(new TodoChangedEvent(this, firstTodo));
+        todoSearchIndex.onTodoChangedEvent(new TodoChangedEvent(this, secondTodo, thirdTodo));
+        todoSearchIndex.onTodoChangedEvent(new TodoChangedEvent(this, firstTodo, secondTodo));
+        assertThat(todoSearchIndex.search("milk"), is(new long[0]));
+        assertThat(todoSearchIndex.search("bread"), is(new long[0]));
+        assertThat(todoSearchIndex.search("car"), is(new long[] {4L}));
+        assertThat(meterRegistry.get("todo.search.index.items").gauge().value(), is(4.0));
+    }
+
+    @Test
+    void testMemoryMetrics() {
+        assertThat(meterRegistry.get("todo.search.index.items").gauge().value(), is(3.0));
+        assertThat(meterRegistry.get("todo.search.index.memory.per-item").gauge().value() > 0, is(true));
+    }
+
+    private void index(Long id, String description) {
+        todoSearchIndex.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(id, description)));
+    }
+
+    private static TodoDTO getTodo(Long id, String description) {
+        return getTodo(id, description, null);
+    }
+
+    private static TodoDTO getTodo(Long id, String description, Long version) {
+        return TodoDTO.builder()
+                .id(id)
+                .description(description)
+                .status(TodoDTO.Status.NOT_DONE)
+                .version(version)
+                .build();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.danieltnaves.todoservice.todo.sharding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.danieltnaves.todoservice.todo.datasource.PrimaryDataSourceContext;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TodoShardsTest {
+
+    TodoShards todoShards = new TodoShards(true, List.of("jdbc:h2:mem:first", "jdbc:h2:mem:second", "jdbc:h2:mem:third"));
+
+    @Test
+    void testRouteIdsToTheEncodedShard() {
+        assertThat(todoShards.shardOf(TodoShardIds.encode(42, 2)), is(2));
+        assertThat(todoShards.shardOf(TodoShardIds.encode(42, 7)), is(0));
+        assertThat(todoShards.shardOf(null), is(0));
+    }
+
+    @Test
+    void testPickTheShardsOfNewItemsInTurn() {
+        assertThat(List.of(todoShards.nextShard(), todoShards.nextShard(), todoShards.nextShard(), todoShards.nextShard()), contains(0, 1, 2, 0));
+    }
+
+    @Test
+    void testScatterCallsToEveryShard() {
+        assertThat(todoShards.scatter(TodoShardContext::getShard), contains(0, 1, 2));
+        assertThat(TodoShardContext.getShard(), is(nullValue()));
+    }
+
+    @Test
+    void testScatterCallsOnThePrimaryWhenPinned() {
+        assertThat(todoShards.scatter(PrimaryDataSourceContext::isPinned), contains(false, false, false));
+        assertThat(PrimaryDataSourceContext.callOnPrimary(() -> todoShards.scatter(PrimaryDataSourceContext::isPinned)), contains(true, true, true));
+    }
+
+    @Test
+    void testRunCallsOnTheCurrentThreadWithoutSharding() {
+        TodoShards notShardedTodoShards = new TodoShards(false, List.of());
+        assertThat(notShardedTodoShards.scatter(TodoShardContext::getShard), contains(nullValue()));
+        assertThat(notShardedTodoShards.callOnShard(0, TodoShardContext::getShard), is(nullValue()));
+    }
+
+    @Test
+    void testMergeSortedListsUpToTheLimit() {
+        List<List<Integer>> sortedLists = List.of(List.of(1, 4, 7), List.of(), List.of(2, 3, 8, 9));
+        assertThat(TodoShards.merge(sortedLists, Comparator.naturalOrder(), 5), contains(1, 2, 3, 4, 7));
+        assertThat(TodoShards.merge(sortedLists, Comparator.naturalOrder(), 10), contains(1, 2, 3, 4, 7, 8, 9));
+    }
+
+}
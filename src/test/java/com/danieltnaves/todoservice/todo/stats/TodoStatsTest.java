@@ -0,0 +1,89 @@
+package com.danieltnaves.todoservice.todo.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.api.TodoStatsDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.events.TodoChangedEvent;
+import com.danieltnaves.todoservice.todo.events.TodoStatusChangedEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TodoStatsTest {
+
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2023, 10, 17, 21, 0);
+
+    TodoStats todoStats;
+
+    @BeforeEach
+    void setUp() {
+        todoStats = new TodoStats();
+    }
+
+    @Test
+    void testCountAddedItems() {
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(1L, TodoDTO.Status.NOT_DONE, DUE_AT)));
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(2L, TodoDTO.Status.NOT_DONE, null)));
+        TodoStatsDTO stats = todoStats.getStats();
+        assertThat(stats.statuses().get(TodoDTO.Status.NOT_DONE), is(2L));
+        assertThat(stats.statuses().get(TodoDTO.Status.DONE), is(0L));
+        assertThat(stats.dueDates().get(DUE_AT.toLocalDate()), is(1L));
+    }
+
+    @Test
+    void testCountChangedItems() {
+        TodoDTO todo = getTodo(1L, TodoDTO.Status.NOT_DONE, DUE_AT);
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, todo));
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, todo, getTodo(1L, TodoDTO.Status.DONE, DUE_AT.plusDays(1))));
+        TodoStatsDTO stats = todoStats.getStats();
+        assertThat(stats.statuses().get(TodoDTO.Status.NOT_DONE), is(0L));
+        assertThat(stats.statuses().get(TodoDTO.Status.DONE), is(1L));
+        assertThat(stats.dueDates().containsKey(DUE_AT.toLocalDate()), is(false));
+        assertThat(stats.dueDates().get(DUE_AT.toLocalDate().plusDays(1)), is(1L));
+    }
+
+    @Test
+    void testCountItemsWithChangedStatus() {
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(1L, TodoDTO.Status.NOT_DONE, DUE_AT)));
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(2L, TodoDTO.Status.NOT_DONE, DUE_AT)));
+        todoStats.onTodoStatusChangedEvent(new TodoStatusChangedEvent(this, List.of(1L, 2L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE, 1));
+        TodoStatsDTO stats = todoStats.getStats();
+        assertThat(stats.statuses().get(TodoDTO.Status.NOT_DONE), is(1L));
+        assertThat(stats.statuses().get(TodoDTO.Status.PAST_DUE), is(1L));
+    }
+
+    @Test
+    void testReconcileDrift() {
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(1L, TodoDTO.Status.NOT_DONE, DUE_AT)));
+        TodoStats.Snapshot snapshot = todoStats.snapshot();
+        todoStats.onTodoChangedEvent(new TodoChangedEvent(this, getTodo(2L, TodoDTO.Status.DONE, null)));
+        todoStats.reconcile(snapshot, List.of(new TodoStatusCount(Todo.Status.NOT_DONE, 5L)), List.of(new TodoDueDateCount(LocalDate.of(2023, 10, 20), 5L)));
+        TodoStatsDTO stats = todoStats.getStats();
+        assertThat(stats.statuses().get(TodoDTO.Status.NOT_DONE), is(5L));
+        assertThat(stats.statuses().get(TodoDTO.Status.DONE), is(1L));
+        assertThat(stats.dueDates().get(LocalDate.of(2023, 10, 20)), is(5L));
+        assertThat(stats.dueDates().containsKey(DUE_AT.toLocalDate()), is(false));
+    }
+
+    @Test
+    void testEmptyStats() {
+        assertThat(todoStats.getStats().dueDates(), is(anEmptyMap()));
+    }
+
+    private static TodoDTO getTodo(Long id, TodoDTO.Status status, LocalDateTime dueAt) {
+        return TodoDTO.builder()
+                .id(id)
+                .description("Go to the mall")
+                .status(status)
+                .createdAt(DUE_AT.minusDays(1))
+                .dueAt(dueAt)
+                .build();
+    }
+
+}
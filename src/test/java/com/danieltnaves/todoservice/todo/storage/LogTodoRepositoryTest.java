@@ -0,0 +1,145 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.danieltnaves.todoservice.todo.api.TodoDTO;
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import com.danieltnaves.todoservice.todo.rules.PastDueUpdateWithFutureDateRuleUpdate;
+import com.danieltnaves.todoservice.todo.rules.UpdateDoneUpdateTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdatePastDueTodoItemRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemRuleEngine;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemStatusToPastDueRule;
+import com.danieltnaves.todoservice.todo.rules.UpdateTodoItemWithExpiredDueAtDateRule;
+import com.danieltnaves.todoservice.todo.stats.TodoStatusCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+class LogTodoRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    TodoLog todoLog;
+
+    UpdateTodoItemRuleEngine updateTodoItemRuleEngine;
+
+    LogTodoRepository logTodoRepository;
+
+    @BeforeEach
+    void setUp() {
+        todoLog = new TodoLog(directory, 64 * 1024, false);
+        updateTodoItemRuleEngine = new UpdateTodoItemRuleEngine(List.of(new PastDueUpdateWithFutureDateRuleUpdate(), new UpdateDoneUpdateTodoItemRule(),
+                new UpdatePastDueTodoItemRule(), new UpdateTodoItemStatusToPastDueRule(), new UpdateTodoItemWithExpiredDueAtDateRule()), new SimpleMeterRegistry());
+        logTodoRepository = new LogTodoRepository(todoLog, updateTodoItemRuleEngine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoLog.close();
+    }
+
+    @Test
+    void testSaveAssignsTheIdAndVersion() {
+        Todo todo = logTodoRepository.save(getTodo(Todo.Status.NOT_DONE, null));
+        assertThat(todo.getId(), is(1L));
+        assertThat(todo.getVersion(), is(0L));
+        todo.setDescription("Changed description");
+        assertThat(logTodoRepository.save(todo).getVersion(), is(1L));
+        assertThat(logTodoRepository.findById(todo.getId()).orElseThrow().getDescription(), is("Changed description"));
+    }
+
+    @Test
+    void testSaveRejectsAStaleVersion() {
+        Todo todo = logTodoRepository.save(getTodo(Todo.Status.NOT_DONE, null));
+        Todo staleTodo = logTodoRepository.findById(todo.getId()).orElseThrow();
+        logTodoRepository.save(todo);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> logTodoRepository.save(staleTodo));
+    }
+
+    @Test
+    void testSaveAllStoresNothingWhenAnItemHasAStaleVersion() {
+        logTodoRepository.saveAll(List.of(getTodo(Todo.Status.NOT_DONE, null), getTodo(Todo.Status.NOT_DONE, null)));
+        Todo staleTodo = logTodoRepository.findById(1L).orElseThrow();
+        logTodoRepository.save(logTodoRepository.findById(1L).orElseThrow());
+        Todo changedTodo = logTodoRepository.findById(2L).orElseThrow();
+        changedTodo.setDescription("Changed on a failed batch");
+        Todo newTodo = getTodo(Todo.Status.NOT_DONE, null);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> logTodoRepository.saveAll(List.of(newTodo, changedTodo, staleTodo)));
+        assertThat(logTodoRepository.count(), is(2L));
+        assertThat(newTodo.getId(), is(nullValue()));
+        assertThat(logTodoRepository.findById(2L).orElseThrow().getDescription(), is("Todo item stored on the log"));
+        assertThat(logTodoRepository.findById(2L).orElseThrow().getVersion(), is(0L));
+    }
+
+    @Test
+    void testFindPagesInIdOrder() {
+        logTodoRepository.saveAll(IntStream.range(0, 10).mapToObj(i -> getTodo(i % 2 == 0 ? Todo.Status.NOT_DONE : Todo.Status.DONE, null)).toList());
+        Page<TodoDTO> page = logTodoRepository.findAllTodoDTOs(PageRequest.of(1, 3));
+        assertThat(page.getContent().stream().map(TodoDTO::id).toList(), contains(4L, 5L, 6L));
+        assertThat(page.getTotalElements(), is(10L));
+        Page<TodoDTO> notDonePage = logTodoRepository.findAllTodoDTOsByStatus(Todo.Status.NOT_DONE, PageRequest.of(0, 2));
+        assertThat(notDonePage.getContent().stream().map(TodoDTO::id).toList(), contains(1L, 3L));
+        assertThat(notDonePage.getTotalElements(), is(5L));
+        assertThat(logTodoRepository.findAll(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"))).getContent().stream().map(Todo::getId).toList(), contains(10L, 9L));
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> logTodoRepository.findAll(Sort.by("description")));
+    }
+
+    @Test
+    void testFindSlicesAfterTheCursor() {
+        logTodoRepository.saveAll(IntStream.range(0, 5).mapToObj(i -> getTodo(Todo.Status.NOT_DONE, null)).toList());
+        Slice<TodoDTO> slice = logTodoRepository.findTodoDTOsAfter(2L, PageRequest.of(0, 2));
+        assertThat(slice.getContent().stream().map(TodoDTO::id).toList(), contains(3L, 4L));
+        assertThat(slice.hasNext(), is(true));
+        assertThat(logTodoRepository.findTodoDTOsByStatusAfter(Todo.Status.NOT_DONE, 4L, PageRequest.of(0, 2)).hasNext(), is(false));
+    }
+
+    @Test
+    void testUpdateStatusByIdsOnlyChangesTheItemsWithTheCurrentStatus() {
+        logTodoRepository.saveAll(List.of(getTodo(Todo.Status.NOT_DONE, LocalDateTime.now().minusDays(1)), getTodo(Todo.Status.DONE, LocalDateTime.now().minusDays(1))));
+        assertThat(logTodoRepository.findIdsByStatusAndDueAtBefore(Todo.Status.NOT_DONE, LocalDateTime.now(), PageRequest.of(0, 10)), contains(1L));
+        assertThat(logTodoRepository.updateTodoStatusByIds(List.of(1L, 2L), Todo.Status.NOT_DONE, Todo.Status.PAST_DUE), is(1));
+        assertThat(logTodoRepository.findById(1L).orElseThrow().getVersion(), is(1L));
+        assertThat(logTodoRepository.countByStatus(), contains(new TodoStatusCount(Todo.Status.DONE, 1L), new TodoStatusCount(Todo.Status.PAST_DUE, 1L)));
+    }
+
+    @Test
+    void testPatchChecksTheVersionAndTheUpdateRules() {
+        Todo todo = logTodoRepository.save(getTodo(Todo.Status.NOT_DONE, null));
+        Todo doneTodo = logTodoRepository.save(getTodo(Todo.Status.DONE, null));
+        Todo patch = Todo.builder().description("Patched description").build();
+        TodoDTO changes = TodoDTO.builder().description("Patched description").build();
+        assertThat(logTodoRepository.patchTodoItem(todo.getId(), 5L, patch, updateTodoItemRuleEngine.toSpecification(changes)), is(0));
+        assertThat(logTodoRepository.patchTodoItem(doneTodo.getId(), 0L, patch, updateTodoItemRuleEngine.toSpecification(changes)), is(0));
+        assertThat(logTodoRepository.patchTodoItem(todo.getId(), 0L, patch, updateTodoItemRuleEngine.toSpecification(changes)), is(1));
+        Todo patchedTodo = logTodoRepository.findById(todo.getId()).orElseThrow();
+        assertThat(patchedTodo.getDescription(), is("Patched description"));
+        assertThat(patchedTodo.getVersion(), is(1L));
+    }
+
+    private static Todo getTodo(Todo.Status status, LocalDateTime dueAt) {
+        return Todo.builder()
+                .description("Todo item stored on the log")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .dueAt(dueAt)
+                .build();
+    }
+
+}
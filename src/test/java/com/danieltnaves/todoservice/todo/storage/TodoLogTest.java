@@ -0,0 +1,153 @@
+package com.danieltnaves.todoservice.todo.storage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.danieltnaves.todoservice.todo.domain.Todo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TodoLogTest {
+
+    public static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReadTheLatestRecordOfEachItem() {
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            Todo todo = newTodo(todoLog, "First description");
+            todo.setDescription("Changed description");
+            todo.setStatus(Todo.Status.DONE);
+            todoLog.write(writer -> {
+                writer.put(todo);
+                return null;
+            });
+            assertThat(todoLog.find(todo.getId()).orElseThrow(), is(todo));
+            assertThat(todoLog.count(), is(1L));
+            assertThat(todoLog.count(Todo.Status.NOT_DONE), is(0L));
+            assertThat(todoLog.ids(Todo.Status.DONE), contains(todo.getId()));
+        }
+    }
+
+    @Test
+    void testRebuildTheIndexFromTheSegmentsOnStartup() {
+        Todo deletedTodo;
+        Todo todo;
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            IntStream.range(0, 100).forEach(i -> newTodo(todoLog, "Todo item " + i));
+            deletedTodo = newTodo(todoLog, "Deleted item");
+            todo = newTodo(todoLog, "Kept item");
+            todoLog.write(writer -> writer.delete(deletedTodo.getId()));
+        }
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(todoLog.count(), is(101L));
+            assertThat(todoLog.find(todo.getId()).orElseThrow(), is(todo));
+            assertThat(todoLog.find(deletedTodo.getId()).isPresent(), is(false));
+            assertThat(newTodo(todoLog, "New item").getId(), is(todo.getId() + 1));
+        }
+    }
+
+    @Test
+    void testDiscardATornRecordOnStartup() throws IOException {
+        Todo todo;
+        Todo tornTodo;
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            todo = newTodo(todoLog, "Complete item");
+            tornTodo = newTodo(todoLog, "Torn item");
+        }
+        int tornOffset = TodoLogRecords.size(TodoLogRecords.put(todo));
+        try (RandomAccessFile segment = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            segment.seek(tornOffset + TodoLogSegment.HEADER_SIZE + 20);
+            segment.write(0xFF);
+        }
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(todoLog.count(), is(1L));
+            assertThat(todoLog.find(tornTodo.getId()).isPresent(), is(false));
+            newTodo(todoLog, "Item written after the recovery");
+        }
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(todoLog.count(), is(2L));
+        }
+    }
+
+    @Test
+    void testCompactTheSealedSegments() throws IOException {
+        Todo todo;
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            todo = newTodo(todoLog, "Frequently changed item");
+            Todo deletedTodo = newTodo(todoLog, "Deleted item");
+            todoLog.write(writer -> writer.delete(deletedTodo.getId()));
+            for (int version = 1; version <= 500; version++) {
+                todo.setVersion((long) version);
+                todoLog.write(writer -> {
+                    writer.put(todo);
+                    return null;
+                });
+            }
+            int segments = segmentFiles().size();
+            assertThat(todoLog.compact(0.5), is(segments - 1));
+            assertThat(segmentFiles().size(), lessThan(segments));
+            assertThat(todoLog.find(todo.getId()).orElseThrow(), is(todo));
+        }
+        try (TodoLog todoLog = new TodoLog(directory, SEGMENT_SIZE, true)) {
+            assertThat(todoLog.count(), is(1L));
+            assertThat(todoLog.find(todo.getId()).orElseThrow(), is(todo));
+        }
+    }
+
+    @Test
+    void testShareTheForceBetweenConcurrentWriters() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (TodoLog todoLog = new TodoLog(directory, 1024 * 1024, true);
+             ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            todoLog.bindTo(meterRegistry);
+            List<Future<?>> writes = IntStream.range(0, 800)
+                    .mapToObj(i -> executorService.submit(() -> newTodo(todoLog, "Todo item " + i)))
+                    .toList();
+            for (Future<?> write : writes) {
+                write.get();
+            }
+            assertThat(todoLog.count(), is(800L));
+            assertThat(meterRegistry.get("todo.storage.log.group-commit").summary().totalAmount(), is(800.0));
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Todo newTodo(TodoLog todoLog, String description) {
+        return todoLog.write(writer -> {
+            Todo todo = Todo.builder()
+                    .id(writer.nextId())
+                    .description(description)
+                    .status(Todo.Status.NOT_DONE)
+                    .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                    .dueAt(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MICROS))
+                    .version(0L)
+                    .build();
+            writer.put(todo);
+            return todo;
+        });
+    }
+
+}
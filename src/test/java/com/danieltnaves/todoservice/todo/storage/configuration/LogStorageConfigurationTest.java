@@ -0,0 +1,49 @@
+package com.danieltnaves.todoservice.todo.storage.configuration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.error.ErrorMvcAutoConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.StringUtils;
+
+class LogStorageConfigurationTest {
+
+    LogStorageEnvironmentPostProcessor logStorageEnvironmentPostProcessor = new LogStorageEnvironmentPostProcessor();
+
+    @Test
+    void testExcludeTheDatabaseAutoConfigurationWithTheLogStorage() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("todo.storage.backend", "log")
+                .withProperty(LogStorageEnvironmentPostProcessor.EXCLUDE_PROPERTY, ErrorMvcAutoConfiguration.class.getName());
+        logStorageEnvironmentPostProcessor.postProcessEnvironment(environment, new SpringApplication());
+        assertThat(StringUtils.commaDelimitedListToSet(environment.getProperty(LogStorageEnvironmentPostProcessor.EXCLUDE_PROPERTY)), containsInAnyOrder(
+                ErrorMvcAutoConfiguration.class.getName(), DataSourceAutoConfiguration.class.getName(), HibernateJpaAutoConfiguration.class.getName(),
+                JpaRepositoriesAutoConfiguration.class.getName(), FlywayAutoConfiguration.class.getName()));
+    }
+
+    @Test
+    void testKeepTheDatabaseAutoConfigurationWithTheJpaStorage() {
+        MockEnvironment environment = new MockEnvironment().withProperty("todo.storage.backend", "jpa");
+        logStorageEnvironmentPostProcessor.postProcessEnvironment(environment, new SpringApplication());
+        assertThat(environment.getProperty(LogStorageEnvironmentPostProcessor.EXCLUDE_PROPERTY), is(nullValue()));
+    }
+
+    @Test
+    void testFailFastWithTheOutboxOrSharding() {
+        IllegalStateException outboxException = assertThrows(IllegalStateException.class, () -> new LogStorageConfiguration(false, true));
+        assertThat(outboxException.getMessage(), is(LogStorageConfiguration.OUTBOX_NOT_SUPPORTED_MESSAGE));
+        IllegalStateException shardingException = assertThrows(IllegalStateException.class, () -> new LogStorageConfiguration(true, false));
+        assertThat(shardingException.getMessage(), is(LogStorageConfiguration.SHARDING_NOT_SUPPORTED_MESSAGE));
+    }
+
+}
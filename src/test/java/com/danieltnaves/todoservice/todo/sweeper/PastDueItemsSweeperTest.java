@@ -0,0 +1,54 @@
+package com.danieltnaves.todoservice.todo.sweeper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.danieltnaves.todoservice.todo.TodoService;
+import com.danieltnaves.todoservice.todo.sharding.TodoShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PastDueItemsSweeperTest {
+
+    public static final int CHUNK_SIZE = 100;
+
+    TodoService todoService;
+
+    SimpleMeterRegistry meterRegistry;
+
+    PastDueItemsSweeper pastDueItemsSweeper;
+
+    @BeforeEach
+    void setUp() {
+        todoService = mock(TodoService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pastDueItemsSweeper = new PastDueItemsSweeper(todoService, new TodoShards(false, List.of()), meterRegistry, CHUNK_SIZE);
+    }
+
+    @Test
+    void testSweepUpdatesChunksUntilTheLastPartialChunk() {
+        when(todoService.updatePastDueItems(any(LocalDateTime.class), eq(CHUNK_SIZE))).thenReturn(CHUNK_SIZE, CHUNK_SIZE, 42);
+        pastDueItemsSweeper.sweep();
+        verify(todoService, times(3)).updatePastDueItems(any(LocalDateTime.class), eq(CHUNK_SIZE));
+        assertThat(meterRegistry.get("todo.past-due.sweeper.items").summary().totalAmount(), is(242.0));
+        assertThat(meterRegistry.get("todo.past-due.sweeper.duration").timer().count(), is(1L));
+    }
+
+    @Test
+    void testSweepWithoutPastDueItems() {
+        when(todoService.updatePastDueItems(any(LocalDateTime.class), eq(CHUNK_SIZE))).thenReturn(0);
+        pastDueItemsSweeper.sweep();
+        verify(todoService, times(1)).updatePastDueItems(any(LocalDateTime.class), eq(CHUNK_SIZE));
+        assertThat(meterRegistry.get("todo.past-due.sweeper.items").summary().totalAmount(), is(0.0));
+    }
+
+}